@@ -0,0 +1,101 @@
+package com.flavia.benchmark;
+
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.Deck;
+import com.flavia.exceptions.DeckEmptyException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deck.draw, the refill from the discard pile, drawing from an empty deck and snapshot/restore.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+    private static final int STANDARD_DECK_SIZE = 99;
+
+    private Deck deck;
+    private List<Card> drawn;
+    private Deck.Snapshot snapshot;
+    private Deck emptyDeck;
+
+    @Setup
+    public void setUp() {
+        deck = new Deck(42L);
+        drawn = new ArrayList<>(STANDARD_DECK_SIZE);
+        snapshot = deck.snapshot();
+        emptyDeck = new Deck(List.of());
+    }
+
+    // Single draw; every 99th call pays for the refill
+    @Benchmark
+    public Card draw() throws DeckEmptyException {
+        if (deck.drawPileSize() == 0) {
+            deck.discardAll(drawn);
+            drawn.clear();
+        }
+        Card card = deck.draw();
+        drawn.add(card);
+        return card;
+    }
+
+    // Draws the whole deck and discards it again: one refill + reshuffle per invocation
+    @Benchmark
+    @OperationsPerInvocation(STANDARD_DECK_SIZE)
+    public void drawAndRefillFullDeck(Blackhole bh) throws DeckEmptyException {
+        for (int i = 0; i < STANDARD_DECK_SIZE; i++) {
+            drawn.add(deck.draw());
+        }
+        bh.consume(drawn.getLast());
+        deck.discardAll(drawn);
+        drawn.clear();
+    }
+
+    // Exhausted deck, old path: the engine caught DeckEmptyException
+    @Benchmark
+    public Card drawEmptyWithException() {
+        try {
+            return emptyDeck.draw();
+        } catch (DeckEmptyException e) {
+            return null;
+        }
+    }
+
+    // Exhausted deck, engine path
+    @Benchmark
+    public int tryDrawEmpty() {
+        return emptyDeck.tryDraw();
+    }
+
+    @Benchmark
+    public Deck.Snapshot snapshot() {
+        return deck.snapshot();
+    }
+
+    // Undo step of a search: draw one card, then restore the full deck
+    @Benchmark
+    public Card drawAndRestore() throws DeckEmptyException {
+        Card card = deck.draw();
+        deck.restore(snapshot);
+        return card;
+    }
+}
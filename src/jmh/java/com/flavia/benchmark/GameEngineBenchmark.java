@@ -0,0 +1,61 @@
+package com.flavia.benchmark;
+
+import com.flavia.domain.model.Deck;
+import com.flavia.engine.EngineOptions;
+import com.flavia.engine.GameEngine;
+import com.flavia.engine.NoOpEventListener;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A full GameEngine.playRound with threshold bots and a no-op listener.
+ * The target score is unreachable, so the same engine keeps playing rounds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEngineBenchmark {
+
+    @Param({"3", "18"})
+    public int playerCount;
+
+    @Param({"false", "true"})
+    public boolean lowAllocation;
+
+    private GameEngine engine;
+
+    @Setup
+    public void setUp() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            int threshold = 10 + (i % 3) * 5;
+            players.add(new SimpleBotPlayer("Bot-" + i, threshold, false));
+        }
+        engine = new GameEngine(players, new Deck(42L), Integer.MAX_VALUE, NoOpEventListener.INSTANCE,
+                EngineOptions.defaults().withLowAllocation(lowAllocation));
+    }
+
+    @Benchmark
+    public Optional<Player> playRound() {
+        return engine.playRound();
+    }
+}
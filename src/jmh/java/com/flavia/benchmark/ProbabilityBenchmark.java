@@ -0,0 +1,67 @@
+package com.flavia.benchmark;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.Deck;
+import com.flavia.exceptions.DeckEmptyException;
+import com.flavia.rules.DefaultProbabilityCalculator;
+import com.flavia.rules.HistogramProbabilityCalculator;
+import com.flavia.rules.SuccessProbabilityCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SuccessProbabilityCalculator on a typical mid-round situation (4 cards in hand, ~60 in the deck).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProbabilityBenchmark {
+
+    @Param({"default", "histogram"})
+    public String calculator;
+
+    private SuccessProbabilityCalculator probabilityCalculator;
+    private Deck deck;
+    private List<Card> hand;
+
+    @Setup
+    public void setUp() throws DeckEmptyException {
+        probabilityCalculator = switch (calculator) {
+            case "default" -> new DefaultProbabilityCalculator();
+            case "histogram" -> new HistogramProbabilityCalculator();
+            default -> throw new IllegalArgumentException("Unknown calculator: " + calculator);
+        };
+
+        deck = new Deck(42L);
+        for (int i = 0; i < 34; i++) {
+            deck.draw();
+        }
+        hand = List.of(
+                Card.number(3),
+                Card.number(7),
+                Card.number(11),
+                Card.of(CardType.FREEZE)
+        );
+    }
+
+    @Benchmark
+    public double calculateSuccessProbability() {
+        return probabilityCalculator.calculateSuccessProbability(hand, deck);
+    }
+}
@@ -0,0 +1,71 @@
+package com.flavia.benchmark;
+
+import com.flavia.domain.model.Deck;
+import com.flavia.engine.EngineOptions;
+import com.flavia.engine.RoundState;
+import com.flavia.engine.TurnProcessor;
+import com.flavia.engine.TurnResult;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One TurnProcessor.processTurn call, rotating over three threshold bots.
+ * A new round is started (and cards discarded) whenever nobody can act anymore.
+ * Compare gc.alloc.rate.norm of both modes to see the per-turn allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnProcessorBenchmark {
+
+    @Param({"false", "true"})
+    public boolean lowAllocation;
+
+    private List<Player> players;
+    private Deck deck;
+    private RoundState state;
+    private TurnProcessor turnProcessor;
+    private int seat;
+
+    @Setup
+    public void setUp() {
+        players = List.of(
+                new SimpleBotPlayer("Bot-10", 10, false),
+                new SimpleBotPlayer("Bot-15", 15, false),
+                new SimpleBotPlayer("Bot-20", 20, false)
+        );
+        deck = new Deck(42L);
+        state = new RoundState();
+        state.initRound(players);
+        turnProcessor = new TurnProcessor(deck, players, state,
+                EngineOptions.defaults().withLowAllocation(lowAllocation));
+    }
+
+    @Benchmark
+    public TurnResult processTurn() {
+        if (!state.hasActivePlayers()) {
+            state.discardAllPlayedCards(players, deck);
+            state.initRound(players);
+        }
+        int current = seat;
+        seat = (seat + 1) % players.size();
+        return turnProcessor.processTurn(current);
+    }
+}
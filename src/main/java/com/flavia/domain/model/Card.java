@@ -3,8 +3,40 @@ package com.flavia.domain.model;
 
 import com.flavia.domain.enums.CardType;
 
+/**
+ * A single card. There are only 16 distinct cards (see CardCodec).
+ *
+ * Decision:
+ * - number(..) and of(..) return one canonical instance per card, so game code
+ *   shares 16 objects instead of allocating a Card per deck slot or event.
+ * - The constructor stays public: cards built with it are equal to the canonical ones.
+ * - equals is the generated one. hashCode is derived from the type's ordinal, so
+ *   hash-based collections of cards iterate in the same order on every run (the
+ *   generated one mixes in the enum's identity hash).
+ */
 public record Card(int value, CardType type) {
 
+    /**
+     * Canonical number card with the given value (0-12).
+     */
+    public static Card number(int value) {
+        return CardCodec.decode(CardCodec.encode(value, CardType.NUMBER));
+    }
+
+    /**
+     * Canonical action card of the given type.
+     */
+    public static Card of(CardType type) {
+        return CardCodec.decode(CardCodec.encode(0, type));
+    }
+
+    /**
+     * Canonical card with the given value and type. Action cards must have value 0.
+     */
+    public static Card of(int value, CardType type) {
+        return CardCodec.decode(CardCodec.encode(value, type));
+    }
+
     public boolean isNumber() {
         return type == CardType.NUMBER;
     }
@@ -13,6 +45,12 @@ public record Card(int value, CardType type) {
         return type != CardType.NUMBER;
     }
 
+    @Override
+    public int hashCode() {
+        // Stable across runs, unlike the identity hash of the enum
+        return 31 * (type == null ? -1 : type.ordinal()) + value;
+    }
+
     @Override
     public String toString() {
         return isNumber() ? String.valueOf(value) : type.name();
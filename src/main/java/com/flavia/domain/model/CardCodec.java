@@ -0,0 +1,71 @@
+package com.flavia.domain.model;
+
+import com.flavia.domain.enums.CardType;
+
+/**
+ * Encodes a card into a single byte and back.
+ *
+ * Codes:
+ * - 0-12: NUMBER card with that value
+ * - 13: FREEZE, 14: FLIP_THREE, 15: SECOND_CHANCE (action cards carry no value)
+ *
+ * Decoding returns shared instances, so it never allocates. These are the same
+ * canonical cards that Card.number and Card.of hand out.
+ */
+public final class CardCodec {
+
+    public static final int CARD_KINDS = 16;
+    public static final int MAX_NUMBER_VALUE = 12;
+
+    public static final byte FREEZE = 13;
+    public static final byte FLIP_THREE = 14;
+    public static final byte SECOND_CHANCE = 15;
+
+    private static final Card[] CARDS = new Card[CARD_KINDS];
+
+    static {
+        for (int value = 0; value <= MAX_NUMBER_VALUE; value++) {
+            CARDS[value] = new Card(value, CardType.NUMBER);
+        }
+        CARDS[FREEZE] = new Card(0, CardType.FREEZE);
+        CARDS[FLIP_THREE] = new Card(0, CardType.FLIP_THREE);
+        CARDS[SECOND_CHANCE] = new Card(0, CardType.SECOND_CHANCE);
+    }
+
+    private CardCodec() {}
+
+    public static byte encode(Card card) {
+        return encode(card.value(), card.type());
+    }
+
+    /**
+     * Code of the card with the given value and type, without needing a Card instance.
+     *
+     * @throws IllegalArgumentException for number values outside 0-12 and action cards
+     *                                  with a value other than 0 (the code could not keep it)
+     */
+    public static byte encode(int value, CardType type) {
+        if (type != CardType.NUMBER && value != 0) {
+            throw new IllegalArgumentException("Action cards carry no value: " + type + " " + value);
+        }
+        return switch (type) {
+            case NUMBER -> {
+                if (value < 0 || value > MAX_NUMBER_VALUE) {
+                    throw new IllegalArgumentException("Number card value out of range: " + value);
+                }
+                yield (byte) value;
+            }
+            case FREEZE -> FREEZE;
+            case FLIP_THREE -> FLIP_THREE;
+            case SECOND_CHANCE -> SECOND_CHANCE;
+        };
+    }
+
+    public static Card decode(int code) {
+        return CARDS[code];
+    }
+
+    public static boolean isNumber(int code) {
+        return code <= MAX_NUMBER_VALUE;
+    }
+}
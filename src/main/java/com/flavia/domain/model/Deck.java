@@ -1,98 +1,319 @@
 package com.flavia.domain.model;
 
-import com.flavia.domain.enums.CardType;
 import com.flavia.exceptions.DeckEmptyException;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Manages draw and discard piles.
+ *
+ * Decision:
+ * - Every deck owns its random generator: no contention between parallel games.
+ * - A seeded deck always produces the same card sequence, which makes games replayable.
+ * - copy() never draws from the deck's generator, so lookahead on copies leaves the
+ *   live game's reshuffles alone. Copies take their generators from a separate
+ *   splitter, derived from the seed for seeded decks.
+ * - Cards are stored as byte codes (see CardCodec): drawing moves a head index,
+ *   refilling copies the discard pile back in place. Neither allocates.
+ * - Per-code histograms of both piles are kept up to date, so composition queries are O(1).
+ * - snapshot()/restore() copy only the byte arrays and histograms, for search and undo.
+ *   The random generator state is not part of a snapshot.
+ * - version() changes on every draw, discard, refill, shuffle and restore, so callers
+ *   can cache values derived from the piles. It only grows, also across restore().
  */
 public class Deck {
 
-    private final List<Card> drawPile;
-    private final List<Card> discardPile;
+    /** Result of tryDraw() when no card is left. */
+    public static final int NO_CARD = -1;
+
+    // Draw pile is drawPile[head, drawEnd)
+    private byte[] drawPile;
+    private int head;
+    private int drawEnd;
+
+    private byte[] discardPile;
+    private int discardSize;
+
+    // Number of cards per code (see CardCodec) in each pile
+    private final int[] drawCounts = new int[CardCodec.CARD_KINDS];
+    private final int[] discardCounts = new int[CardCodec.CARD_KINDS];
+
+    private long version;
+
+    private final RandomGenerator random;
+    // Source of the generators of copy(); created on first use unless seeded
+    private SplittableRandom copySeeds;
+    private final List<Card> drawPileView = new DrawPileView();
 
     public Deck() {
-        this.drawPile = initializeCards();
-        this.discardPile = new ArrayList<>();
+        this(new SplittableRandom());
+    }
+
+    public Deck(long seed) {
+        this(new SplittableRandom(seed));
+        this.copySeeds = copySeeds(seed);
+    }
+
+    public Deck(RandomGenerator random) {
+        this(DeckSpec.STANDARD, random);
+    }
+
+    public Deck(DeckSpec spec, long seed) {
+        this(spec, new SplittableRandom(seed));
+        this.copySeeds = copySeeds(seed);
+    }
+
+    /**
+     * Shuffled shoe of the given composition.
+     */
+    public Deck(DeckSpec spec, RandomGenerator random) {
+        this.drawPile = new byte[spec.size()];
+        // Ordered by code before shuffling, so seeded standard decks deal as before
+        for (int code = 0; code < CardCodec.CARD_KINDS; code++) {
+            int count = spec.count(code);
+            Arrays.fill(drawPile, drawEnd, drawEnd + count, (byte) code);
+            drawEnd += count;
+            drawCounts[code] = count;
+        }
+        this.discardPile = new byte[drawPile.length];
+        this.random = random;
         shuffle();
     }
 
     public Deck(List<Card> presetDrawPile) {
-        this.drawPile = new ArrayList<>(presetDrawPile);
-        this.discardPile = new ArrayList<>();
+        this(presetDrawPile, new SplittableRandom());
+    }
+
+    /**
+     * Preset draw pile is kept in order; the generator is only used when the discard pile is reshuffled.
+     *
+     * @throws IllegalArgumentException if a card has no code (see CardCodec.encode)
+     */
+    public Deck(List<Card> presetDrawPile, RandomGenerator random) {
+        this.drawPile = new byte[presetDrawPile.size()];
+        for (Card card : presetDrawPile) {
+            byte code = CardCodec.encode(card);
+            drawPile[drawEnd++] = code;
+            drawCounts[code]++;
+        }
+        this.discardPile = new byte[presetDrawPile.size()];
+        this.random = random;
     }
 
     public void shuffle() {
-        Collections.shuffle(drawPile);
+        // Fisher-Yates over the live range, same order of swaps as Collections.shuffle
+        for (int i = drawEnd - head; i > 1; i--) {
+            int a = head + i - 1;
+            int b = head + random.nextInt(i);
+            byte tmp = drawPile[a];
+            drawPile[a] = drawPile[b];
+            drawPile[b] = tmp;
+        }
+        version++;
     }
 
     /**
      * Draws the top card. Refills from discard pile if empty.
      */
     public Card draw() throws DeckEmptyException {
-        if (drawPile.isEmpty()) {
-            refillFromDiscard();
-        }
-        if (drawPile.isEmpty()) {
+        int code = tryDraw();
+        if (code == NO_CARD) {
             throw new DeckEmptyException("No cards left in the deck!");
         }
-        return drawPile.removeFirst();
+        return CardCodec.decode(code);
+    }
+
+    /**
+     * Like draw(), but returns the card code (see CardCodec), or NO_CARD if both piles are empty.
+     * For hot loops: an empty deck costs the same as a draw, no exception is created.
+     */
+    public int tryDraw() {
+        if (head == drawEnd) {
+            refillFromDiscard();
+            if (head == drawEnd) {
+                return NO_CARD;
+            }
+        }
+        byte code = drawPile[head++];
+        drawCounts[code]--;
+        version++;
+        return code;
     }
 
     public void discardAll(List<Card> cards) {
-        discardPile.addAll(cards);
+        ensureDiscardCapacity(discardSize + cards.size());
+        for (Card card : cards) {
+            byte code = CardCodec.encode(card);
+            discardPile[discardSize++] = code;
+            discardCounts[code]++;
+        }
+        version++;
+    }
+
+    public void discard(Card card) {
+        ensureDiscardCapacity(discardSize + 1);
+        byte code = CardCodec.encode(card);
+        discardPile[discardSize++] = code;
+        discardCounts[code]++;
+        version++;
     }
 
     public int drawPileSize() {
-        return drawPile.size();
+        return drawEnd - head;
+    }
+
+    /**
+     * Changes whenever either pile changes. Equal versions of the same deck mean equal piles.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Number of cards with the given code (see CardCodec) left in the draw pile.
+     */
+    public int drawPileCount(int cardCode) {
+        return drawCounts[cardCode];
+    }
+
+    /**
+     * Copies the draw pile counts of all card codes into the given array (length CardCodec.CARD_KINDS).
+     */
+    public void copyDrawPileCounts(int[] into) {
+        System.arraycopy(drawCounts, 0, into, 0, CardCodec.CARD_KINDS);
     }
 
     /**
      * Returns an unmodifiable view of the draw pile for probability calculations.
      */
     public List<Card> viewDrawPile() {
-        return Collections.unmodifiableList(drawPile);
+        return drawPileView;
     }
 
-    private void refillFromDiscard() {
-        if (discardPile.isEmpty()) {
-            return;
+    /**
+     * Independent copy of both piles with its own generator. Does not advance this deck's
+     * generator; copies of a seeded deck are seeded deterministically as well.
+     */
+    public Deck copy() {
+        if (copySeeds == null) {
+            copySeeds = new SplittableRandom();
         }
-        drawPile.addAll(discardPile);
-        discardPile.clear();
-        shuffle();
+        Deck copy = copy(copySeeds.split());
+        copy.copySeeds = copySeeds.split();
+        return copy;
+    }
+
+    public Deck copy(RandomGenerator random) {
+        Deck copy = new Deck(List.of(), random);
+        copy.restore(snapshot());
+        return copy;
+    }
+
+    // A split of a second generator with the deck's seed: unrelated to the deck's own sequence
+    private static SplittableRandom copySeeds(long seed) {
+        return new SplittableRandom(seed).split();
     }
 
     /**
-     * Initializes the deck:
-     * - Values 0-11: value+1 copies
-     * - Value 12: 12 copies
-     * - 3 copies of each special card
+     * Compact copy of both piles; restore(snapshot) brings the deck back to this point.
      */
-    private List<Card> initializeCards() {
-        List<Card> cardList = new ArrayList<>();
+    public Snapshot snapshot() {
+        return new Snapshot(
+                Arrays.copyOfRange(drawPile, head, drawEnd),
+                Arrays.copyOf(discardPile, discardSize),
+                drawCounts.clone(),
+                discardCounts.clone()
+        );
+    }
 
-        for (int value = 0; value <= 12; value++) {
-            int count = (value == 12) ? 12 : value + 1;
-            for (int i = 0; i < count; i++) {
-                cardList.add(new Card(value, CardType.NUMBER));
-            }
+    /**
+     * Restores the piles of a snapshot. Reuses the existing arrays if they are large enough.
+     */
+    public void restore(Snapshot snapshot) {
+        int drawSize = snapshot.drawPile.length;
+        if (drawPile.length < drawSize) {
+            drawPile = new byte[drawSize];
         }
+        System.arraycopy(snapshot.drawPile, 0, drawPile, 0, drawSize);
+        head = 0;
+        drawEnd = drawSize;
 
-        addSpecialCards(cardList, CardType.FREEZE);
-        addSpecialCards(cardList, CardType.FLIP_THREE);
-        addSpecialCards(cardList, CardType.SECOND_CHANCE);
+        ensureDiscardCapacity(snapshot.discardPile.length);
+        System.arraycopy(snapshot.discardPile, 0, discardPile, 0, snapshot.discardPile.length);
+        discardSize = snapshot.discardPile.length;
 
-        return cardList;
+        System.arraycopy(snapshot.drawCounts, 0, drawCounts, 0, CardCodec.CARD_KINDS);
+        System.arraycopy(snapshot.discardCounts, 0, discardCounts, 0, CardCodec.CARD_KINDS);
+        version++;
     }
 
-    private void addSpecialCards(List<Card> list, CardType type) {
-        for (int i = 0; i < 3; i++) {
-            list.add(new Card(0, type));
+    /**
+     * Immutable state of both piles as card codes. Can be restored any number of times.
+     */
+    public static final class Snapshot {
+        private final byte[] drawPile;
+        private final byte[] discardPile;
+        private final int[] drawCounts;
+        private final int[] discardCounts;
+
+        private Snapshot(byte[] drawPile, byte[] discardPile, int[] drawCounts, int[] discardCounts) {
+            this.drawPile = drawPile;
+            this.discardPile = discardPile;
+            this.drawCounts = drawCounts;
+            this.discardCounts = discardCounts;
+        }
+
+        public int drawPileSize() {
+            return drawPile.length;
+        }
+
+        public int discardPileSize() {
+            return discardPile.length;
+        }
+    }
+
+    private void refillFromDiscard() {
+        if (discardSize == 0) {
+            return;
+        }
+        if (drawPile.length < discardSize) {
+            drawPile = new byte[discardPile.length];
+        }
+        System.arraycopy(discardPile, 0, drawPile, 0, discardSize);
+        for (int code = 0; code < CardCodec.CARD_KINDS; code++) {
+            drawCounts[code] += discardCounts[code];
+            discardCounts[code] = 0;
+        }
+        head = 0;
+        drawEnd = discardSize;
+        discardSize = 0;
+        shuffle();
+    }
+
+    private void ensureDiscardCapacity(int required) {
+        if (discardPile.length < required) {
+            discardPile = Arrays.copyOf(discardPile, Math.max(required, discardPile.length * 2));
+        }
+    }
+
+    /** Read-only live view over the byte codes of the draw pile. */
+    private class DrawPileView extends AbstractList<Card> implements RandomAccess {
+        @Override
+        public Card get(int index) {
+            if (index < 0 || index >= drawPileSize()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + drawPileSize());
+            }
+            return CardCodec.decode(drawPile[head + index]);
+        }
+
+        @Override
+        public int size() {
+            return drawPileSize();
         }
     }
 }
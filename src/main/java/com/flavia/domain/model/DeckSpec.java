@@ -0,0 +1,136 @@
+package com.flavia.domain.model;
+
+import com.flavia.domain.enums.CardType;
+
+import java.util.Arrays;
+
+/**
+ * Composition of a deck: cards per card code (see CardCodec) in one deck, and the
+ * number of decks shuffled together into the shoe.
+ *
+ * Usage: new Deck(DeckSpec.STANDARD.withDecks(3), seed)
+ *
+ * Decision:
+ * - Immutable; with... methods return a changed copy (like EngineOptions).
+ * - Counts per code instead of a card list: a shoe of any size is built straight
+ *   into the byte storage of Deck, without per-card objects.
+ * - Bots that cannot see the draw pile assume this composition minus their own hand.
+ */
+public final class DeckSpec {
+
+    private static final int STANDARD_ACTION_COUNT = 3;
+
+    /**
+     * The standard single deck: value v appears v + 1 times (0 once), 12 appears
+     * 12 times, and 3 of each action card. 99 cards.
+     */
+    public static final DeckSpec STANDARD = standard();
+
+    // Cards per code in one deck
+    private final int[] countsPerDeck;
+    private final int decks;
+
+    private DeckSpec(int[] countsPerDeck, int decks) {
+        if (decks < 1) {
+            throw new IllegalArgumentException("decks must be positive");
+        }
+        for (int count : countsPerDeck) {
+            if (count < 0) {
+                throw new IllegalArgumentException("Card counts must not be negative");
+            }
+        }
+        this.countsPerDeck = countsPerDeck;
+        this.decks = decks;
+    }
+
+    private static DeckSpec standard() {
+        int[] counts = new int[CardCodec.CARD_KINDS];
+        for (int value = 0; value <= CardCodec.MAX_NUMBER_VALUE; value++) {
+            counts[value] = value == CardCodec.MAX_NUMBER_VALUE ? value : value + 1;
+        }
+        counts[CardCodec.FREEZE] = STANDARD_ACTION_COUNT;
+        counts[CardCodec.FLIP_THREE] = STANDARD_ACTION_COUNT;
+        counts[CardCodec.SECOND_CHANCE] = STANDARD_ACTION_COUNT;
+        return new DeckSpec(counts, 1);
+    }
+
+    /**
+     * @param value number card value 0-12
+     * @param count copies per deck
+     */
+    public DeckSpec withNumberCount(int value, int count) {
+        if (value < 0 || value > CardCodec.MAX_NUMBER_VALUE) {
+            throw new IllegalArgumentException("Number card value out of range: " + value);
+        }
+        return withCount(value, count);
+    }
+
+    /**
+     * @param type  an action card type
+     * @param count copies per deck
+     */
+    public DeckSpec withActionCount(CardType type, int count) {
+        if (type == CardType.NUMBER) {
+            throw new IllegalArgumentException("Use withNumberCount for number cards");
+        }
+        return withCount(CardCodec.encode(0, type), count);
+    }
+
+    public DeckSpec withDecks(int decks) {
+        return new DeckSpec(countsPerDeck, decks);
+    }
+
+    public int decks() {
+        return decks;
+    }
+
+    /**
+     * Cards with the given code in the whole shoe.
+     */
+    public int count(int cardCode) {
+        return countsPerDeck[cardCode] * decks;
+    }
+
+    /**
+     * Cards in the whole shoe.
+     */
+    public int size() {
+        int size = 0;
+        for (int count : countsPerDeck) {
+            size += count;
+        }
+        return size * decks;
+    }
+
+    /**
+     * Copies the shoe counts of all card codes into the given array (length CardCodec.CARD_KINDS).
+     */
+    public void copyCounts(int[] into) {
+        for (int code = 0; code < CardCodec.CARD_KINDS; code++) {
+            into[code] = count(code);
+        }
+    }
+
+    private DeckSpec withCount(int code, int count) {
+        int[] counts = countsPerDeck.clone();
+        counts[code] = count;
+        return new DeckSpec(counts, decks);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DeckSpec other)) return false;
+        return decks == other.decks && Arrays.equals(countsPerDeck, other.countsPerDeck);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(countsPerDeck) + decks;
+    }
+
+    @Override
+    public String toString() {
+        return "DeckSpec[countsPerDeck=" + Arrays.toString(countsPerDeck) + ", decks=" + decks + "]";
+    }
+}
@@ -0,0 +1,172 @@
+package com.flavia.domain.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Cards of one player in the current round, stored as byte codes (see CardCodec).
+ *
+ * Decision:
+ * - Keeps a 13-bit mask of the number values, the running point sum and a count per
+ *   card code up to date on every change. Duplicate check, Second Chance check and
+ *   scoring are then single reads instead of scans.
+ * - Still a fully mutable List<Card> (set and sort included), so existing callers
+ *   (views, snapshots, tests) keep working.
+ */
+public class Hand extends AbstractList<Card> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] codes = new byte[INITIAL_CAPACITY];
+    private int size;
+    private final int[] counts = new int[CardCodec.CARD_KINDS];
+    private int numberMask;
+    private int points;
+
+    /**
+     * Bit v is set if a number card with value v is in the hand.
+     */
+    public int numberMask() {
+        return numberMask;
+    }
+
+    /**
+     * Sum of all number cards (duplicates included).
+     */
+    public int points() {
+        return points;
+    }
+
+    public boolean hasNumber(int value) {
+        return (numberMask & (1 << value)) != 0;
+    }
+
+    /**
+     * Number of cards with the given code (see CardCodec).
+     */
+    public int count(int cardCode) {
+        return counts[cardCode];
+    }
+
+    public boolean hasSecondChance() {
+        return counts[CardCodec.SECOND_CHANCE] > 0;
+    }
+
+    /**
+     * Removes the first card with the given code.
+     *
+     * @return false if the hand holds no such card
+     */
+    public boolean removeCode(int cardCode) {
+        if (counts[cardCode] == 0) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (codes[i] == cardCode) {
+                remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Card get(int index) {
+        Objects.checkIndex(index, size);
+        return CardCodec.decode(codes[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        Objects.checkIndex(index, size);
+        byte code = CardCodec.encode(card);
+        byte previous = codes[index];
+        codes[index] = code;
+        track(previous, -1);
+        track(code, 1);
+        return CardCodec.decode(previous);
+    }
+
+    @Override
+    public void add(int index, Card card) {
+        Objects.checkIndex(index, size + 1);
+        byte code = CardCodec.encode(card);
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, size * 2);
+        }
+        System.arraycopy(codes, index, codes, index + 1, size - index);
+        codes[index] = code;
+        size++;
+        modCount++;
+        track(code, 1);
+    }
+
+    @Override
+    public Card remove(int index) {
+        Objects.checkIndex(index, size);
+        byte code = codes[index];
+        System.arraycopy(codes, index + 1, codes, index, size - index - 1);
+        size--;
+        modCount++;
+        track(code, -1);
+        return CardCodec.decode(code);
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+        Arrays.fill(counts, 0);
+        numberMask = 0;
+        points = 0;
+    }
+
+    /**
+     * Replaces the contents with those of the other hand. Does not allocate if the capacity suffices.
+     */
+    public void copyFrom(Hand other) {
+        if (codes.length < other.size) {
+            codes = new byte[other.codes.length];
+        }
+        System.arraycopy(other.codes, 0, codes, 0, other.size);
+        System.arraycopy(other.counts, 0, counts, 0, CardCodec.CARD_KINDS);
+        size = other.size;
+        numberMask = other.numberMask;
+        points = other.points;
+        modCount++;
+    }
+
+    /**
+     * Number mask of any card list; reads the tracked mask if the list is a Hand.
+     */
+    public static int numberMaskOf(List<Card> cards) {
+        if (cards instanceof Hand hand) {
+            return hand.numberMask();
+        }
+        int mask = 0;
+        for (Card c : cards) {
+            if (c.isNumber()) mask |= 1 << c.value();
+        }
+        return mask;
+    }
+
+    private void track(byte code, int delta) {
+        counts[code] += delta;
+        if (CardCodec.isNumber(code)) {
+            points += delta * code;
+            if (counts[code] > 0) {
+                numberMask |= 1 << code;
+            } else {
+                numberMask &= ~(1 << code);
+            }
+        }
+    }
+}
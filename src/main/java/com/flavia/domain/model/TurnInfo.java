@@ -1,14 +1,147 @@
 package com.flavia.domain.model;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Snapshot of the current situation for a player's decision.
+ *
+ * Decision:
+ * - Stays an immutable record; the engine's reusable low-allocation view is a separate
+ *   TurnView implementation, not a subclass.
+ * - drawPileCounts is copied in and out, so nobody can change a TurnInfo through it.
+ *   null if the composition is unknown.
  */
 public record TurnInfo(
         List<Card> myCards,
         int currentPoints,
         double successProbability,
         int cardsRemainingInDeck,
-        List<String> securedPlayerNames
-) {}
+        List<String> securedPlayerNames,
+        int[] drawPileCounts,
+        int activeOpponents
+) implements TurnView {
+
+    /**
+     * @param drawPileCounts  cards per code left in the draw pile (copied), or null if unknown
+     * @param activeOpponents other players who can still act, or -1 if unknown
+     */
+    public TurnInfo {
+        drawPileCounts = drawPileCounts == null ? null : drawPileCounts.clone();
+    }
+
+    public TurnInfo(
+            List<Card> myCards,
+            int currentPoints,
+            double successProbability,
+            int cardsRemainingInDeck,
+            List<String> securedPlayerNames
+    ) {
+        this(myCards, currentPoints, successProbability, cardsRemainingInDeck, securedPlayerNames, null);
+    }
+
+    public TurnInfo(
+            List<Card> myCards,
+            int currentPoints,
+            double successProbability,
+            int cardsRemainingInDeck,
+            List<String> securedPlayerNames,
+            int[] drawPileCounts
+    ) {
+        this(myCards, currentPoints, successProbability, cardsRemainingInDeck, securedPlayerNames, drawPileCounts, -1);
+    }
+
+    /**
+     * Copy of the counts per card code, or null if the composition is unknown.
+     */
+    @Override
+    public int[] drawPileCounts() {
+        return drawPileCounts == null ? null : drawPileCounts.clone();
+    }
+
+    @Override
+    public boolean hasDrawPileCounts() {
+        return drawPileCounts != null;
+    }
+
+    @Override
+    public int drawPileCount(int cardCode) {
+        if (drawPileCounts == null) {
+            throw new IllegalStateException("Draw pile composition not available");
+        }
+        return drawPileCounts[cardCode];
+    }
+
+    /**
+     * Copy with immutable lists; a TurnInfo built from live lists stays valid afterwards.
+     */
+    @Override
+    public TurnInfo snapshot() {
+        return new TurnInfo(
+                List.copyOf(myCards),
+                currentPoints,
+                successProbability,
+                cardsRemainingInDeck,
+                List.copyOf(securedPlayerNames),
+                drawPileCounts,
+                activeOpponents
+        );
+    }
+
+    /**
+     * Immutable copy of any view, e.g. the engine's reusable one.
+     */
+    public static TurnInfo of(TurnView view) {
+        if (view instanceof TurnInfo info) {
+            return info.snapshot();
+        }
+        int[] counts = null;
+        if (view.hasDrawPileCounts()) {
+            counts = new int[CardCodec.CARD_KINDS];
+            for (int code = 0; code < counts.length; code++) {
+                counts[code] = view.drawPileCount(code);
+            }
+        }
+        return new TurnInfo(
+                List.copyOf(view.myCards()),
+                view.currentPoints(),
+                view.successProbability(),
+                view.cardsRemainingInDeck(),
+                List.copyOf(view.securedPlayerNames()),
+                counts,
+                view.activeOpponents()
+        );
+    }
+
+    // Arrays compare by content, not identity
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TurnInfo other)) return false;
+        return currentPoints == other.currentPoints
+                && Double.compare(successProbability, other.successProbability) == 0
+                && cardsRemainingInDeck == other.cardsRemainingInDeck
+                && activeOpponents == other.activeOpponents
+                && myCards.equals(other.myCards)
+                && securedPlayerNames.equals(other.securedPlayerNames)
+                && Arrays.equals(drawPileCounts, other.drawPileCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(myCards, currentPoints, successProbability, cardsRemainingInDeck, securedPlayerNames,
+                activeOpponents) + Arrays.hashCode(drawPileCounts);
+    }
+
+    @Override
+    public String toString() {
+        return "TurnInfo[myCards=" + myCards
+                + ", currentPoints=" + currentPoints
+                + ", successProbability=" + successProbability
+                + ", cardsRemainingInDeck=" + cardsRemainingInDeck
+                + ", securedPlayerNames=" + securedPlayerNames
+                + ", drawPileCounts=" + Arrays.toString(drawPileCounts)
+                + ", activeOpponents=" + activeOpponents + "]";
+    }
+}
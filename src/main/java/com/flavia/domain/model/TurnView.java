@@ -0,0 +1,47 @@
+package com.flavia.domain.model;
+
+import java.util.List;
+
+/**
+ * Read-only view of the current situation for a player's decision.
+ *
+ * Decision:
+ * - Implemented by the immutable TurnInfo record and by the engine's reusable view in
+ *   low-allocation mode (see Player.decideLive). Players that only read can take
+ *   either through this interface.
+ * - A reusable view is only valid during the decision; snapshot() returns a TurnInfo
+ *   that stays valid.
+ * - The draw pile composition is exposed as read-only counts per card code
+ *   (see CardCodec), never as the Deck itself.
+ */
+public interface TurnView {
+
+    List<Card> myCards();
+
+    int currentPoints();
+
+    double successProbability();
+
+    int cardsRemainingInDeck();
+
+    List<String> securedPlayerNames();
+
+    /**
+     * Other players who can still act this round, or -1 if unknown.
+     */
+    int activeOpponents();
+
+    boolean hasDrawPileCounts();
+
+    /**
+     * Cards with the given code (see CardCodec) left in the draw pile.
+     *
+     * @throws IllegalStateException if the composition is unknown
+     */
+    int drawPileCount(int cardCode);
+
+    /**
+     * Immutable copy that stays valid after the decision.
+     */
+    TurnInfo snapshot();
+}
@@ -0,0 +1,161 @@
+package com.flavia.engine;
+
+import com.flavia.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Decouples a slow listener (console, log file, ...) from the game thread.
+ *
+ * Decision:
+ * - Events are queued as small commands and replayed on one background thread,
+ *   so the delegate sees them in publish order and needs no synchronization.
+ * - The consumer drains the queue in batches to keep queue overhead per event low.
+ * - The queue is bounded: a delegate that cannot keep up slows producers down
+ *   instead of eating all memory.
+ * - Several engines may publish to the same instance.
+ * - Publishers hold a read lock from the closed check to the enqueue, close() takes the
+ *   write lock: no event can be queued behind the shutdown marker and get lost.
+ * - An event that cannot be queued because the publisher is interrupted is dropped and
+ *   counted in failedEvents(), like an event whose delegate call throws.
+ */
+public class AsyncEventListener implements GameEventListener, AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final Consumer<GameEventListener> SHUTDOWN = l -> {};
+
+    private final GameEventListener delegate;
+    private final BlockingQueue<Consumer<GameEventListener>> queue;
+    private final int batchSize;
+    private final Thread consumer;
+    private final AtomicLong failedEvents = new AtomicLong();
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    public AsyncEventListener(GameEventListener delegate) {
+        this(delegate, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    public AsyncEventListener(GameEventListener delegate, int capacity, int batchSize) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.consumer = Thread.ofPlatform()
+                .name("flip7-events")
+                .daemon()
+                .start(this::drainLoop);
+    }
+
+    @Override
+    public void onRoundStart() {
+        publish(GameEventListener::onRoundStart);
+    }
+
+    @Override
+    public void onTurn(Player player, List<TurnEvent> events) {
+        // The engine may reuse its event list after this call returns
+        List<TurnEvent> copy = List.copyOf(events);
+        publish(l -> l.onTurn(player, copy));
+    }
+
+    @Override
+    public void onScoringStart() {
+        publish(GameEventListener::onScoringStart);
+    }
+
+    @Override
+    public void onPlayerScored(Player player, int points, int totalPoints, boolean busted) {
+        publish(l -> l.onPlayerScored(player, points, totalPoints, busted));
+    }
+
+    @Override
+    public void onRoundEnd() {
+        publish(GameEventListener::onRoundEnd);
+    }
+
+    @Override
+    public void onGameWon(Player winner) {
+        publish(l -> l.onGameWon(winner));
+    }
+
+    /**
+     * Number of events whose delegate call threw, or that were dropped because the publishing
+     * thread was interrupted while waiting for queue space. The consumer keeps running.
+     */
+    public long failedEvents() {
+        return failedEvents.get();
+    }
+
+    /**
+     * Delivers all queued events, then stops the consumer thread.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) return;
+            closed = true;
+            // No publisher is inside publish(): the marker is the last element ever queued
+            queue.put(SHUTDOWN);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publish(Consumer<GameEventListener> event) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Listener already closed");
+            }
+            queue.put(event);
+        } catch (InterruptedException e) {
+            failedEvents.incrementAndGet();
+            Thread.currentThread().interrupt();
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    private void drainLoop() {
+        List<Consumer<GameEventListener>> batch = new ArrayList<>(batchSize);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                for (Consumer<GameEventListener> event : batch) {
+                    if (event == SHUTDOWN) return;
+                    dispatch(event);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatch(Consumer<GameEventListener> event) {
+        try {
+            event.accept(delegate);
+        } catch (RuntimeException e) {
+            failedEvents.incrementAndGet();
+        }
+    }
+}
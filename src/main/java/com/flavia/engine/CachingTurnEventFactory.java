@@ -0,0 +1,121 @@
+package com.flavia.engine;
+
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.CardCodec;
+import com.flavia.player.Player;
+
+import java.util.List;
+
+/**
+ * Hands out one shared event instance per (seat, card) combination.
+ *
+ * Tables are filled lazily, so after the first few rounds no turn allocates an event.
+ * Players outside the seat list fall back to fresh instances.
+ */
+final class CachingTurnEventFactory implements TurnEventFactory {
+
+    private static final TurnEvent.DeckEmpty DECK_EMPTY = new TurnEvent.DeckEmpty();
+
+    private final List<Player> players;
+    private final TurnEvent.CardDrawn[][] cardDrawn;
+    private final TurnEvent.PlayerBusted[][] playerBusted;
+    private final TurnEvent.SecondChanceConsumed[][] secondChanceConsumed;
+    private final TurnEvent.ActionCardPlayed[][][] actionCardPlayed;
+    private final TurnEvent.PlayerStayed[] playerStayed;
+    private final TurnEvent.PlayerFrozen[] playerFrozen;
+
+    CachingTurnEventFactory(List<Player> players) {
+        int seats = players.size();
+        this.players = players;
+        this.cardDrawn = new TurnEvent.CardDrawn[seats][CardCodec.CARD_KINDS];
+        this.playerBusted = new TurnEvent.PlayerBusted[seats][CardCodec.CARD_KINDS];
+        this.secondChanceConsumed = new TurnEvent.SecondChanceConsumed[seats][CardCodec.CARD_KINDS];
+        this.actionCardPlayed = new TurnEvent.ActionCardPlayed[seats][CardCodec.CARD_KINDS][];
+        this.playerStayed = new TurnEvent.PlayerStayed[seats];
+        this.playerFrozen = new TurnEvent.PlayerFrozen[seats];
+    }
+
+    @Override
+    public TurnEvent.CardDrawn cardDrawn(Player player, Card card) {
+        int seat = seatOf(player);
+        if (seat < 0) return new TurnEvent.CardDrawn(player, card);
+        int code = CardCodec.encode(card);
+        TurnEvent.CardDrawn event = cardDrawn[seat][code];
+        if (event == null) {
+            event = cardDrawn[seat][code] = new TurnEvent.CardDrawn(player, CardCodec.decode(code));
+        }
+        return event;
+    }
+
+    @Override
+    public TurnEvent.PlayerStayed playerStayed(Player player) {
+        int seat = seatOf(player);
+        if (seat < 0) return new TurnEvent.PlayerStayed(player);
+        TurnEvent.PlayerStayed event = playerStayed[seat];
+        if (event == null) {
+            event = playerStayed[seat] = new TurnEvent.PlayerStayed(player);
+        }
+        return event;
+    }
+
+    @Override
+    public TurnEvent.PlayerBusted playerBusted(Player player, Card card) {
+        int seat = seatOf(player);
+        if (seat < 0) return new TurnEvent.PlayerBusted(player, card);
+        int code = CardCodec.encode(card);
+        TurnEvent.PlayerBusted event = playerBusted[seat][code];
+        if (event == null) {
+            event = playerBusted[seat][code] = new TurnEvent.PlayerBusted(player, CardCodec.decode(code));
+        }
+        return event;
+    }
+
+    @Override
+    public TurnEvent.PlayerFrozen playerFrozen(Player target) {
+        int seat = seatOf(target);
+        if (seat < 0) return new TurnEvent.PlayerFrozen(target);
+        TurnEvent.PlayerFrozen event = playerFrozen[seat];
+        if (event == null) {
+            event = playerFrozen[seat] = new TurnEvent.PlayerFrozen(target);
+        }
+        return event;
+    }
+
+    @Override
+    public TurnEvent.SecondChanceConsumed secondChanceConsumed(Player player, Card card) {
+        int seat = seatOf(player);
+        if (seat < 0) return new TurnEvent.SecondChanceConsumed(player, card);
+        int code = CardCodec.encode(card);
+        TurnEvent.SecondChanceConsumed event = secondChanceConsumed[seat][code];
+        if (event == null) {
+            event = secondChanceConsumed[seat][code] = new TurnEvent.SecondChanceConsumed(player, CardCodec.decode(code));
+        }
+        return event;
+    }
+
+    @Override
+    public TurnEvent.ActionCardPlayed actionCardPlayed(Player actor, Card card, Player target) {
+        int actorSeat = seatOf(actor);
+        int targetSeat = seatOf(target);
+        if (actorSeat < 0 || targetSeat < 0) return new TurnEvent.ActionCardPlayed(actor, card, target);
+        int code = CardCodec.encode(card);
+        TurnEvent.ActionCardPlayed[] byTarget = actionCardPlayed[actorSeat][code];
+        if (byTarget == null) {
+            byTarget = actionCardPlayed[actorSeat][code] = new TurnEvent.ActionCardPlayed[players.size()];
+        }
+        TurnEvent.ActionCardPlayed event = byTarget[targetSeat];
+        if (event == null) {
+            event = byTarget[targetSeat] = new TurnEvent.ActionCardPlayed(actor, CardCodec.decode(code), target);
+        }
+        return event;
+    }
+
+    @Override
+    public TurnEvent.DeckEmpty deckEmpty() {
+        return DECK_EMPTY;
+    }
+
+    private int seatOf(Player player) {
+        return Seats.indexOf(players, player);
+    }
+}
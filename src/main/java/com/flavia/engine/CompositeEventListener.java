@@ -0,0 +1,49 @@
+package com.flavia.engine;
+
+import com.flavia.player.Player;
+
+import java.util.List;
+
+/** Forwards every event to several listeners, in the given order. */
+public class CompositeEventListener implements GameEventListener {
+
+    private final GameEventListener[] listeners;
+
+    public CompositeEventListener(GameEventListener... listeners) {
+        this.listeners = listeners.clone();
+    }
+
+    public CompositeEventListener(List<GameEventListener> listeners) {
+        this.listeners = listeners.toArray(GameEventListener[]::new);
+    }
+
+    @Override
+    public void onRoundStart() {
+        for (GameEventListener l : listeners) l.onRoundStart();
+    }
+
+    @Override
+    public void onTurn(Player player, List<TurnEvent> events) {
+        for (GameEventListener l : listeners) l.onTurn(player, events);
+    }
+
+    @Override
+    public void onScoringStart() {
+        for (GameEventListener l : listeners) l.onScoringStart();
+    }
+
+    @Override
+    public void onPlayerScored(Player player, int points, int totalPoints, boolean busted) {
+        for (GameEventListener l : listeners) l.onPlayerScored(player, points, totalPoints, busted);
+    }
+
+    @Override
+    public void onRoundEnd() {
+        for (GameEventListener l : listeners) l.onRoundEnd();
+    }
+
+    @Override
+    public void onGameWon(Player winner) {
+        for (GameEventListener l : listeners) l.onGameWon(winner);
+    }
+}
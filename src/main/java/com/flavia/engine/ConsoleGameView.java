@@ -7,9 +7,11 @@ import com.flavia.player.Player;
 import java.util.List;
 import java.util.Objects;
 
-public class ConsoleGameView {
+/** Console rendering of a game; the listener used by the interactive Main. */
+public class ConsoleGameView implements GameEventListener {
 
-    public void displayTurnEvents(List<TurnEvent> events) {
+    @Override
+    public void onTurn(Player turnPlayer, List<TurnEvent> events) {
         for (TurnEvent event : events) {
             if (event instanceof TurnEvent.CardDrawn(Player player, Card card)) {
                 System.out.println("-> " + player.getName() + " draws: " + card);
@@ -31,15 +33,18 @@ public class ConsoleGameView {
         }
     }
 
-    public void displayRoundStart() {
+    @Override
+    public void onRoundStart() {
         System.out.println("\n--- NEW ROUND STARTING ---");
     }
 
-    public void displayRoundEnd() {
+    @Override
+    public void onRoundEnd() {
         System.out.println("========================\n");
     }
 
-    public void displayScoring(Player player, int points, int totalPoints, boolean busted) {
+    @Override
+    public void onPlayerScored(Player player, int points, int totalPoints, boolean busted) {
         if (busted) {
             System.out.println(player.getName() + ": BUST (0 Points)");
         } else {
@@ -48,12 +53,14 @@ public class ConsoleGameView {
         System.out.println("   -> New Total: " + totalPoints);
     }
 
-    public void displayWinner(Player winner) {
+    @Override
+    public void onGameWon(Player winner) {
         System.out.println("\n*** GAME OVER! " + winner.getName() + " HAS WON! ***");
         System.out.println("========================\n");
     }
 
-    public void displayScoringHeader() {
+    @Override
+    public void onScoringStart() {
         System.out.println("\n=== ROUND SCORING ===");
     }
 }
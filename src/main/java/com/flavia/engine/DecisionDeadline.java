@@ -0,0 +1,145 @@
+package com.flavia.engine;
+
+import com.flavia.domain.enums.PlayerAction;
+import com.flavia.domain.model.TurnInfo;
+import com.flavia.domain.model.TurnView;
+import com.flavia.metrics.HistogramSnapshot;
+import com.flavia.metrics.LatencyHistogram;
+import com.flavia.player.Player;
+import com.flavia.player.TargetInfo;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Calls Player.decide and chooseTarget with a time limit, so a slow or hung player
+ * cannot stall the game loop. Set through EngineOptions.withDecisionDeadline.
+ *
+ * Decision:
+ * - Every call runs on its own virtual thread; the game thread waits at most the deadline.
+ *   Virtual threads are cheap enough to start one per decision.
+ * - On timeout the player STAYs, or the first eligible target is taken (as in
+ *   Player.chooseTarget). The late thread is interrupted and its answer ignored.
+ * - A player is not called again while a timed-out call of it is still running: the
+ *   next call falls back at once and counts as a timeout. So the late thread never
+ *   runs alongside a new call, and a player that ignores the interrupt cannot pile
+ *   up threads. Calls of one player from different engines may still overlap.
+ * - The player gets a TurnInfo snapshot through decide(): in low-allocation mode the
+ *   engine reuses its view, which a timed-out thread could otherwise still be reading.
+ * - Exceptions thrown by the player reach the engine as in synchronous mode.
+ * - Latencies are kept per player name; one instance may be shared by many engines.
+ */
+public class DecisionDeadline {
+
+    private final long deadlineNanos;
+    private final Map<String, PlayerLatency> latencies = new ConcurrentHashMap<>();
+    // Timed-out calls that are still running, per player
+    private final Map<Player, Thread> lateCalls = new ConcurrentHashMap<>();
+
+    public DecisionDeadline(Duration deadline) {
+        if (deadline.isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("deadline must be positive");
+        }
+        this.deadlineNanos = deadline.toNanos();
+    }
+
+    public Duration deadline() {
+        return Duration.ofNanos(deadlineNanos);
+    }
+
+    public PlayerAction decide(Player player, TurnView view) {
+        TurnInfo snapshot = view.snapshot();
+        return call(player, () -> player.decide(snapshot), PlayerAction.STAY);
+    }
+
+    public String chooseTarget(Player player, TargetInfo info) {
+        return call(player, () -> player.chooseTarget(info), info.eligibleTargetNames().getFirst());
+    }
+
+    /**
+     * Decisions, timeouts and latency per player name, sorted by name.
+     */
+    public Map<String, DecisionStats> stats() {
+        Map<String, DecisionStats> stats = new TreeMap<>();
+        latencies.forEach((name, latency) -> stats.put(name,
+                new DecisionStats(name, latency.timeouts.sum(), latency.histogram.snapshot())));
+        return stats;
+    }
+
+    private <T> T call(Player player, Supplier<T> decision, T fallback) {
+        PlayerLatency latency = latencies.computeIfAbsent(player.getName(), name -> new PlayerLatency());
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long start = System.nanoTime();
+        Thread late = lateCalls.get(player);
+        if (late != null) {
+            if (late.isAlive()) {
+                latency.timeouts.increment();
+                latency.histogram.record(System.nanoTime() - start);
+                return fallback;
+            }
+            lateCalls.remove(player, late);
+        }
+        Thread thread = Thread.ofVirtual().start(() -> {
+            try {
+                result.complete(decision.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                lateCalls.remove(player, Thread.currentThread());
+            }
+        });
+        try {
+            return result.get(deadlineNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Removed by the thread itself when it ends (or by the next call, if that came first)
+            lateCalls.put(player, thread);
+            thread.interrupt();
+            latency.timeouts.increment();
+            return fallback;
+        } catch (InterruptedException e) {
+            lateCalls.put(player, thread);
+            thread.interrupt();
+            Thread.currentThread().interrupt();
+            return fallback;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException("Decision of " + player.getName() + " failed", e.getCause());
+        } finally {
+            latency.histogram.record(System.nanoTime() - start);
+        }
+    }
+
+    private static final class PlayerLatency {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final LongAdder timeouts = new LongAdder();
+    }
+
+    /**
+     * Latency of all calls of one player, timed-out calls included (at about the deadline).
+     * Calls skipped because an earlier call was still running count as timeouts with
+     * near-zero latency.
+     */
+    public record DecisionStats(String playerName, long timeouts, HistogramSnapshot latency) {
+
+        public long decisions() {
+            return latency.count();
+        }
+
+        public long p50Nanos() {
+            return latency.percentileNanos(50);
+        }
+
+        public long p99Nanos() {
+            return latency.percentileNanos(99);
+        }
+    }
+}
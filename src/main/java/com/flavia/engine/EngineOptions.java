@@ -0,0 +1,49 @@
+package com.flavia.engine;
+
+import com.flavia.metrics.EngineMetrics;
+import com.flavia.rules.HistogramProbabilityCalculator;
+import com.flavia.rules.SuccessProbabilityCalculator;
+
+/**
+ * Tuning knobs of GameEngine and TurnProcessor.
+ *
+ * lowAllocation: reuses the event list, TurnResult, a TurnView (with read-only live
+ * hand views) and event instances between turns. Players get the view through
+ * Player.decideLive; by default they decide on an immutable TurnInfo snapshot.
+ * TurnResult and the view are only valid until the next turn; listeners must copy
+ * what they keep. The success probability and secured player names of the view are
+ * computed only when the player reads them.
+ *
+ * metrics: receives counters and latencies of rounds, turns, draws, deck refills,
+ * player decisions and probability calculations. EngineMetrics.NOOP by default.
+ *
+ * decisionDeadline: calls players on virtual threads with a time limit (see DecisionDeadline).
+ * null by default: players are called directly on the game thread.
+ */
+public record EngineOptions(
+        SuccessProbabilityCalculator probabilityCalculator,
+        boolean lowAllocation,
+        EngineMetrics metrics,
+        DecisionDeadline decisionDeadline
+) {
+
+    public static EngineOptions defaults() {
+        return new EngineOptions(new HistogramProbabilityCalculator(), false, EngineMetrics.NOOP, null);
+    }
+
+    public EngineOptions withProbabilityCalculator(SuccessProbabilityCalculator probabilityCalculator) {
+        return new EngineOptions(probabilityCalculator, lowAllocation, metrics, decisionDeadline);
+    }
+
+    public EngineOptions withLowAllocation(boolean lowAllocation) {
+        return new EngineOptions(probabilityCalculator, lowAllocation, metrics, decisionDeadline);
+    }
+
+    public EngineOptions withMetrics(EngineMetrics metrics) {
+        return new EngineOptions(probabilityCalculator, lowAllocation, metrics, decisionDeadline);
+    }
+
+    public EngineOptions withDecisionDeadline(DecisionDeadline decisionDeadline) {
+        return new EngineOptions(probabilityCalculator, lowAllocation, metrics, decisionDeadline);
+    }
+}
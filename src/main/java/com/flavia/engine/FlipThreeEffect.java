@@ -15,7 +15,7 @@ public class FlipThreeEffect implements CardEffect {
             return;
         }
         Player target = targetOpt.get();
-        events.add(new TurnEvent.ActionCardPlayed(actor, card, target));
+        events.add(processor.eventFactory().actionCardPlayed(actor, card, target));
         processor.forceDraw(target, events);
     }
 }
@@ -17,6 +17,6 @@ public class FreezeEffect implements CardEffect {
         }
         Player target = targetOpt.get();
         processor.setStatus(target, PlayerStatus.FROZEN);
-        events.add(new TurnEvent.PlayerFrozen(target));
+        events.add(processor.eventFactory().playerFrozen(target));
     }
 }
@@ -1,6 +1,8 @@
 package com.flavia.engine;
 
 import com.flavia.domain.model.Deck;
+import com.flavia.metrics.EngineMetrics;
+import com.flavia.metrics.Metric;
 import com.flavia.player.Player;
 
 import java.util.List;
@@ -15,7 +17,8 @@ public class GameEngine {
     private final RoundState roundState = new RoundState();
     private final TurnProcessor turnProcessor;
     private final ScoreBoard scoreBoard;
-    private final ConsoleGameView view;
+    private final GameEventListener listener;
+    private final EngineMetrics metrics;
 
     public GameEngine(List<Player> players) {
         // Default game with standard deck and target score 200
@@ -23,27 +26,49 @@ public class GameEngine {
     }
 
     public GameEngine(List<Player> players, Deck deck, int targetScore) {
+        this(players, deck, targetScore, new ConsoleGameView());
+    }
+
+    public GameEngine(List<Player> players, Deck deck, int targetScore, GameEventListener listener) {
+        this(players, deck, targetScore, listener, EngineOptions.defaults());
+    }
+
+    public GameEngine(List<Player> players, Deck deck, int targetScore, GameEventListener listener,
+                      EngineOptions options) {
         if (players.size() < 3 || players.size() > 18) {
             throw new IllegalArgumentException("Number of players must be between 3 and 18. Given: " + players.size());
         }
 
         this.deck = deck;
         this.players = List.copyOf(players);
-        this.turnProcessor = new TurnProcessor(this.deck, this.players, roundState);
-        this.scoreBoard = new ScoreBoard(this.players, targetScore);
-        this.view = new ConsoleGameView();
+        this.turnProcessor = new TurnProcessor(this.deck, this.players, roundState, options);
+        this.scoreBoard = new ScoreBoard(this.players, targetScore, listener);
+        this.listener = listener;
+        this.metrics = options.metrics();
     }
 
     public Optional<Player> playRound() {
-        view.displayRoundStart();
+        if (!metrics.enabled()) {
+            return playRoundUntimed();
+        }
+        long start = System.nanoTime();
+        Optional<Player> winner = playRoundUntimed();
+        metrics.recordNanos(Metric.ROUNDS, System.nanoTime() - start);
+        return winner;
+    }
+
+    private Optional<Player> playRoundUntimed() {
+        listener.onRoundStart();
         // Reset round state for new round
         roundState.initRound(players);
 
         // Continue until all players fold or bust
-        while (roundState.hasActivePlayers(players)) {
-            for (Player player : players) {
-                TurnResult result = turnProcessor.processTurn(player);
-                view.displayTurnEvents(result.events());
+        while (roundState.hasActivePlayers()) {
+            for (int seat = 0; seat < players.size(); seat++) {
+                TurnResult result = turnProcessor.processTurn(seat);
+                if (!result.events().isEmpty()) {
+                    listener.onTurn(players.get(seat), result.events());
+                }
             }
         }
 
@@ -51,8 +76,25 @@ public class GameEngine {
         Optional<Player> winner = scoreBoard.scoreRound(players, roundState);
 
         // Collect cards + discard (to keep deck cyclic)
-        deck.discardAll(roundState.collectAllPlayedCards(players));
+        roundState.discardAllPlayedCards(players, deck);
 
         return winner;
     }
+
+    /**
+     * Captures deck, round state and scores, e.g. before a move that may be undone.
+     */
+    public GameStateSnapshot snapshot() {
+        return new GameStateSnapshot(deck.snapshot(), roundState.snapshot(), scoreBoard.snapshotTotals());
+    }
+
+    public void restore(GameStateSnapshot snapshot) {
+        deck.restore(snapshot.deck());
+        roundState.restore(snapshot.round());
+        scoreBoard.restoreTotals(snapshot.totals());
+    }
+
+    public int totalScore(Player player) {
+        return scoreBoard.totalScore(player);
+    }
 }
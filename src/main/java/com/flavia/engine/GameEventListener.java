@@ -0,0 +1,34 @@
+package com.flavia.engine;
+
+import com.flavia.player.Player;
+
+import java.util.List;
+
+/**
+ * SPI for everything that happens during a game.
+ *
+ * Decision:
+ * - GameEngine and ScoreBoard only publish to this interface; rendering, logging
+ *   and statistics are listeners.
+ * - All methods are no-ops by default, so a listener only overrides what it needs.
+ * - Calls happen synchronously on the game thread. Slow consumers belong behind
+ *   an AsyncEventListener.
+ * - The event list is only valid during the call; copy it to keep it.
+ */
+public interface GameEventListener {
+
+    default void onRoundStart() {}
+
+    /** Events of one turn. Turns in which nothing happened are not reported. */
+    default void onTurn(Player player, List<TurnEvent> events) {}
+
+    default void onScoringStart() {}
+
+    default void onPlayerScored(Player player, int points, int totalPoints, boolean busted) {}
+
+    /** Last event of a round without a winner. */
+    default void onRoundEnd() {}
+
+    /** Last event of a game; replaces onRoundEnd for the final round. */
+    default void onGameWon(Player winner) {}
+}
@@ -0,0 +1,23 @@
+package com.flavia.engine;
+
+import com.flavia.domain.model.Deck;
+
+/**
+ * Full game state at one point in time: both piles, the round state and the scores.
+ *
+ * Decision:
+ * - Made of primitive copies only (card codes, statuses, totals), so capture and
+ *   restore cost a few array copies instead of rebuilding Card lists.
+ * - Created and applied by GameEngine; components can also be snapshotted on their own.
+ */
+public record GameStateSnapshot(Deck.Snapshot deck, RoundState.Snapshot round, int[] totals) {
+
+    public GameStateSnapshot {
+        totals = totals.clone();
+    }
+
+    @Override
+    public int[] totals() {
+        return totals.clone();
+    }
+}
@@ -0,0 +1,9 @@
+package com.flavia.engine;
+
+/** Listener that ignores everything. Used for headless simulations. */
+public final class NoOpEventListener implements GameEventListener {
+
+    public static final NoOpEventListener INSTANCE = new NoOpEventListener();
+
+    private NoOpEventListener() {}
+}
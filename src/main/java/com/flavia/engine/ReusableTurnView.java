@@ -0,0 +1,119 @@
+package com.flavia.engine;
+
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.CardCodec;
+import com.flavia.domain.model.Deck;
+import com.flavia.domain.model.Hand;
+import com.flavia.domain.model.TurnInfo;
+import com.flavia.domain.model.TurnView;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * TurnView that the TurnProcessor refills for every decision in low-allocation mode,
+ * passed to Player.decideLive.
+ *
+ * Decision:
+ * - Lazy: the success probability and the secured player names are computed when the
+ *   player first reads them, at most once per decision. A threshold bot that only reads
+ *   currentPoints() pays for neither.
+ * - Points, deck size, draw pile counts and active opponents are cheap and stay eager: they keep the
+ *   values of the decision even if a test or view reads them later.
+ * - Only valid during Player.decideLive(); snapshot() computes all fields into a TurnInfo.
+ */
+final class ReusableTurnView implements TurnView {
+
+    private final Deck deck;
+    private final RoundState state;
+    private final ToDoubleFunction<Hand> probability;
+    private final List<String> securedNames = new ArrayList<>();
+    private final List<String> securedNamesView = Collections.unmodifiableList(securedNames);
+
+    private final int[] drawPileCounts = new int[CardCodec.CARD_KINDS];
+
+    private List<Card> myCards = List.of();
+    private int currentPoints;
+    private int cardsRemainingInDeck;
+    private int activeOpponents;
+    private Hand hand;
+    private boolean probabilityKnown;
+    private double successProbability;
+    private boolean securedNamesKnown;
+
+    /**
+     * @param probability success probability of a hand against the deck, called at most once per decision
+     */
+    ReusableTurnView(Deck deck, RoundState state, ToDoubleFunction<Hand> probability) {
+        this.deck = deck;
+        this.state = state;
+        this.probability = probability;
+    }
+
+    ReusableTurnView update(List<Card> myCards, Hand hand, int activeOpponents) {
+        this.myCards = myCards;
+        this.activeOpponents = activeOpponents;
+        this.hand = hand;
+        this.currentPoints = hand.points();
+        this.cardsRemainingInDeck = deck.drawPileSize();
+        deck.copyDrawPileCounts(drawPileCounts);
+        this.probabilityKnown = false;
+        this.securedNamesKnown = false;
+        return this;
+    }
+
+    @Override
+    public List<Card> myCards() {
+        return myCards;
+    }
+
+    @Override
+    public int currentPoints() {
+        return currentPoints;
+    }
+
+    @Override
+    public double successProbability() {
+        if (!probabilityKnown) {
+            successProbability = probability.applyAsDouble(hand);
+            probabilityKnown = true;
+        }
+        return successProbability;
+    }
+
+    @Override
+    public int cardsRemainingInDeck() {
+        return cardsRemainingInDeck;
+    }
+
+    @Override
+    public List<String> securedPlayerNames() {
+        if (!securedNamesKnown) {
+            state.fillSecuredPlayerNames(securedNames);
+            securedNamesKnown = true;
+        }
+        return securedNamesView;
+    }
+
+    @Override
+    public int activeOpponents() {
+        return activeOpponents;
+    }
+
+    @Override
+    public boolean hasDrawPileCounts() {
+        return true;
+    }
+
+    @Override
+    public int drawPileCount(int cardCode) {
+        return drawPileCounts[cardCode];
+    }
+
+    @Override
+    public TurnInfo snapshot() {
+        return TurnInfo.of(this);
+    }
+}
@@ -1,42 +1,117 @@
 package com.flavia.engine;
 
 import com.flavia.domain.model.Card;
+import com.flavia.domain.model.Deck;
+import com.flavia.domain.model.Hand;
 import com.flavia.player.Player;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
+/**
+ * Hands and status of every seat for the current round.
+ *
+ * Decision:
+ * - State is indexed by seat (position in the player list): lookups are array reads.
+ * - A live counter of ACTIVE seats makes hasActivePlayers() O(1).
+ * - Player based methods map the player to its seat by identity.
+ * - Arrays and hand lists are reused across rounds as long as the seating does not change.
+ * - snapshot()/restore() copy statuses and hand codes, for search and undo.
+ */
 public class RoundState {
 
-    // Tracks cards held by each player in the current round
-    private final Map<Player, List<Card>> hands = new HashMap<>();
-    // Tracks current status (ACTIVE, BUSTED, STAYED, etc.)
-    private final Map<Player, PlayerStatus> status = new HashMap<>();
+    private List<Player> seats = List.of();
+    // Tracks current status (ACTIVE, BUSTED, STAYED, etc.) per seat
+    private PlayerStatus[] status = new PlayerStatus[0];
+    // Tracks cards held by each seat in the current round
+    private Hand[] hands = new Hand[0];
+    // Read-only views of the hands, created once per seat
+    private List<Card>[] handViews = newViewArray(0);
+    private int activeCount;
 
     public void initRound(List<Player> players) {
-        // Reset state for all players at start of round
-        for (Player p : players) {
-            status.put(p, PlayerStatus.ACTIVE);
-            hands.put(p, new ArrayList<>());
+        if (!isSeating(players)) {
+            seat(players);
+        }
+        // Reset state for all players at start of round (hand lists are reused)
+        for (int seat = 0; seat < status.length; seat++) {
+            status[seat] = PlayerStatus.ACTIVE;
+            hands[seat].clear();
         }
+        activeCount = status.length;
+    }
+
+    public int seatCount() {
+        return status.length;
+    }
+
+    public Player player(int seat) {
+        return seats.get(seat);
+    }
+
+    public int seatOf(Player player) {
+        return Seats.seatOf(seats, player);
+    }
+
+    public Hand hand(int seat) {
+        return hands[seat];
+    }
+
+    public Hand hand(Player player) {
+        return hands[seatOf(player)];
+    }
+
+    /**
+     * Live, unmodifiable view of the seat's hand. Does not copy.
+     */
+    public List<Card> handView(int seat) {
+        return handViews[seat];
     }
 
-    public List<Card> hand(Player player) {
-        return hands.get(player);
+    public List<Card> handView(Player player) {
+        return handViews[seatOf(player)];
+    }
+
+    public PlayerStatus status(int seat) {
+        return status[seat];
     }
 
     public PlayerStatus status(Player player) {
-        return status.get(player);
+        return status[seatOf(player)];
+    }
+
+    public void setStatus(int seat, PlayerStatus newStatus) {
+        PlayerStatus old = status[seat];
+        status[seat] = newStatus;
+        // Keep the active counter in sync
+        if (old.canAct() && !newStatus.canAct()) activeCount--;
+        if (!old.canAct() && newStatus.canAct()) activeCount++;
     }
 
     public void setStatus(Player player, PlayerStatus newStatus) {
-        status.put(player, newStatus);
+        setStatus(seatOf(player), newStatus);
+    }
+
+    /**
+     * O(1): true if any seat can still make a move.
+     */
+    /**
+     * Seats other than the given one that can still act.
+     */
+    public int activeOpponents(int seat) {
+        return activeCount - (status[seat].canAct() ? 1 : 0);
+    }
+
+    public boolean hasActivePlayers() {
+        return activeCount > 0;
     }
 
     public boolean hasActivePlayers(List<Player> players) {
-        // Check if any player can still make a move
+        if (isSeating(players)) {
+            return hasActivePlayers();
+        }
+        // Check if any of the given players can still make a move
         for (Player p : players) {
             if (status(p).canAct()) return true;
         }
@@ -55,6 +130,19 @@ public class RoundState {
         return secured;
     }
 
+    /**
+     * Refills the given list with the names of all seated players who stayed or were frozen.
+     * Allocation-free variant for the engine loop.
+     */
+    public void fillSecuredPlayerNames(List<String> into) {
+        into.clear();
+        for (int seat = 0; seat < status.length; seat++) {
+            if (status[seat] == PlayerStatus.STAYED || status[seat] == PlayerStatus.FROZEN) {
+                into.add(seats.get(seat).getName());
+            }
+        }
+    }
+
     public List<Card> collectAllPlayedCards(List<Player> players) {
         // Gather all cards from hands to return to deck/discard
         List<Card> all = new ArrayList<>();
@@ -64,4 +152,91 @@ public class RoundState {
         }
         return all;
     }
+
+    /**
+     * Moves all hand cards straight to the deck's discard pile, without an intermediate list.
+     */
+    public void discardAllPlayedCards(List<Player> players, Deck deck) {
+        for (Player p : players) {
+            deck.discardAll(hand(p));
+            hand(p).clear();
+        }
+    }
+
+    /**
+     * Copy of all statuses and hands of the current seating.
+     */
+    public Snapshot snapshot() {
+        Hand[] handCopies = new Hand[hands.length];
+        for (int seat = 0; seat < hands.length; seat++) {
+            handCopies[seat] = new Hand();
+            handCopies[seat].copyFrom(hands[seat]);
+        }
+        return new Snapshot(seats, status.clone(), handCopies, activeCount);
+    }
+
+    /**
+     * Restores a snapshot. Hands are copied into the existing ones if the seating is the same.
+     */
+    public void restore(Snapshot snapshot) {
+        if (!isSeating(snapshot.seats)) {
+            seat(snapshot.seats);
+        }
+        System.arraycopy(snapshot.status, 0, status, 0, status.length);
+        for (int seat = 0; seat < hands.length; seat++) {
+            hands[seat].copyFrom(snapshot.hands[seat]);
+        }
+        activeCount = snapshot.activeCount;
+    }
+
+    /**
+     * Immutable per-seat state of a round. Can be restored any number of times.
+     */
+    public static final class Snapshot {
+        private final List<Player> seats;
+        private final PlayerStatus[] status;
+        private final Hand[] hands;
+        private final int activeCount;
+
+        private Snapshot(List<Player> seats, PlayerStatus[] status, Hand[] hands, int activeCount) {
+            this.seats = seats;
+            this.status = status;
+            this.hands = hands;
+            this.activeCount = activeCount;
+        }
+
+        public PlayerStatus status(int seat) {
+            return status[seat];
+        }
+
+        public List<Card> hand(int seat) {
+            return Collections.unmodifiableList(hands[seat]);
+        }
+    }
+
+    private boolean isSeating(List<Player> players) {
+        if (players == seats) return true;
+        if (players.size() != seats.size()) return false;
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i) != seats.get(i)) return false;
+        }
+        return true;
+    }
+
+    private void seat(List<Player> players) {
+        int n = players.size();
+        seats = List.copyOf(players);
+        status = new PlayerStatus[n];
+        hands = new Hand[n];
+        handViews = newViewArray(n);
+        for (int seat = 0; seat < n; seat++) {
+            hands[seat] = new Hand();
+            handViews[seat] = Collections.unmodifiableList(hands[seat]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Card>[] newViewArray(int size) {
+        return (List<Card>[]) new List[size];
+    }
 }
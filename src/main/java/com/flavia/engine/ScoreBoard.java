@@ -1,62 +1,77 @@
 package com.flavia.engine;
 
-import com.flavia.domain.enums.CardType;
-import com.flavia.domain.model.Card;
 import com.flavia.player.Player;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 public class ScoreBoard {
 
-    private final Map<Player, Integer> totalScores = new HashMap<>();
+    // Totals per seat (index in the player list), no boxing
+    private final List<Player> seats;
+    private final int[] totalScores;
     private final int targetScore;
-    private final ConsoleGameView view;
+    private final GameEventListener listener;
 
     public ScoreBoard(List<Player> players, int targetScore) {
+        this(players, targetScore, new ConsoleGameView());
+    }
+
+    public ScoreBoard(List<Player> players, int targetScore, GameEventListener listener) {
         this.targetScore = targetScore;
-        this.view = new ConsoleGameView();
-        for (Player p : players) {
-            totalScores.put(p, 0);
-        }
+        this.listener = listener;
+        this.seats = List.copyOf(players);
+        this.totalScores = new int[seats.size()];
     }
 
+    /**
+     * Adds the round points of the given players to their totals, in list order.
+     *
+     * @return the first player who reaches the target score
+     * @throws IllegalArgumentException if a player was not passed to the constructor
+     */
     public Optional<Player> scoreRound(List<Player> players, RoundState state) {
-        view.displayScoringHeader();
+        listener.onScoringStart();
 
         for (Player player : players) {
-            List<Card> hand = state.hand(player);
-
             // If busted, 0 points for this round
             int roundPoints = (state.status(player) == PlayerStatus.BUSTED)
                     ? 0
-                    : calculatePoints(hand);
+                    : state.hand(player).points();
 
-            int currentTotal = totalScores.getOrDefault(player, 0);
-            int newTotal = currentTotal + roundPoints;
-            totalScores.put(player, newTotal);
+            int seat = seatOf(player);
+            int newTotal = totalScores[seat] + roundPoints;
+            totalScores[seat] = newTotal;
 
-            view.displayScoring(player, roundPoints, newTotal, state.status(player) == PlayerStatus.BUSTED);
+            listener.onPlayerScored(player, roundPoints, newTotal, state.status(player) == PlayerStatus.BUSTED);
 
             // Check for win condition
             if (newTotal >= targetScore) {
-                view.displayWinner(player);
+                listener.onGameWon(player);
                 return Optional.of(player);
             }
         }
 
-        view.displayRoundEnd();
+        listener.onRoundEnd();
         return Optional.empty();
     }
 
-    private int calculatePoints(List<Card> hand) {
-        int points = 0;
-        for (Card card : hand) {
-            // Only number cards count towards score
-            if (card.type() == CardType.NUMBER) points += card.value();
-        }
-        return points;
+    /**
+     * @throws IllegalArgumentException if the player was not passed to the constructor
+     */
+    public int totalScore(Player player) {
+        return totalScores[seatOf(player)];
+    }
+
+    int[] snapshotTotals() {
+        return totalScores.clone();
+    }
+
+    void restoreTotals(int[] totals) {
+        System.arraycopy(totals, 0, totalScores, 0, totalScores.length);
+    }
+
+    private int seatOf(Player player) {
+        return Seats.seatOf(seats, player);
     }
 }
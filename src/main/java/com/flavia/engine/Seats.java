@@ -0,0 +1,39 @@
+package com.flavia.engine;
+
+import com.flavia.player.Player;
+
+import java.util.List;
+
+/**
+ * Maps a player to its seat, the position in the player list.
+ *
+ * Decision:
+ * - Identity scan instead of a map: a table has at most 18 seats, and the scan
+ *   needs no hashing and no per-table index structure.
+ * - Callers pass the immutable seat list they already hold.
+ */
+public final class Seats {
+
+    private Seats() {}
+
+    /**
+     * @return the seat of the player, or -1 if it is not seated
+     */
+    public static int indexOf(List<Player> seats, Player player) {
+        for (int i = 0; i < seats.size(); i++) {
+            if (seats.get(i) == player) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the player is not seated
+     */
+    public static int seatOf(List<Player> seats, Player player) {
+        int seat = indexOf(seats, player);
+        if (seat < 0) {
+            throw new IllegalArgumentException("Player is not seated: " + player.getName());
+        }
+        return seat;
+    }
+}
@@ -0,0 +1,43 @@
+package com.flavia.engine;
+
+import com.flavia.domain.model.Card;
+import com.flavia.player.Player;
+
+/**
+ * Creates the TurnEvents of a turn.
+ *
+ * Events are immutable values, so in low-allocation mode the TurnProcessor hands
+ * out cached instances instead of new ones (see CachingTurnEventFactory).
+ */
+public interface TurnEventFactory {
+
+    TurnEventFactory ALLOCATING = new TurnEventFactory() {};
+
+    default TurnEvent.CardDrawn cardDrawn(Player player, Card card) {
+        return new TurnEvent.CardDrawn(player, card);
+    }
+
+    default TurnEvent.PlayerStayed playerStayed(Player player) {
+        return new TurnEvent.PlayerStayed(player);
+    }
+
+    default TurnEvent.PlayerBusted playerBusted(Player player, Card card) {
+        return new TurnEvent.PlayerBusted(player, card);
+    }
+
+    default TurnEvent.PlayerFrozen playerFrozen(Player target) {
+        return new TurnEvent.PlayerFrozen(target);
+    }
+
+    default TurnEvent.SecondChanceConsumed secondChanceConsumed(Player player, Card card) {
+        return new TurnEvent.SecondChanceConsumed(player, card);
+    }
+
+    default TurnEvent.ActionCardPlayed actionCardPlayed(Player actor, Card card, Player target) {
+        return new TurnEvent.ActionCardPlayed(actor, card, target);
+    }
+
+    default TurnEvent.DeckEmpty deckEmpty() {
+        return new TurnEvent.DeckEmpty();
+    }
+}
@@ -3,15 +3,19 @@ package com.flavia.engine;
 import com.flavia.domain.enums.CardType;
 import com.flavia.domain.enums.PlayerAction;
 import com.flavia.domain.model.Card;
+import com.flavia.domain.model.CardCodec;
 import com.flavia.domain.model.Deck;
+import com.flavia.domain.model.Hand;
 import com.flavia.domain.model.TurnInfo;
-import com.flavia.exceptions.DeckEmptyException;
+import com.flavia.domain.model.TurnView;
+import com.flavia.metrics.EngineMetrics;
+import com.flavia.metrics.Metric;
 import com.flavia.player.Player;
 import com.flavia.player.TargetInfo;
-import com.flavia.rules.DefaultProbabilityCalculator;
 import com.flavia.rules.SuccessProbabilityCalculator;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,16 +29,38 @@ public class TurnProcessor {
     private final RoundState state;
     private final SuccessProbabilityCalculator probabilityCalculator;
     private final Map<CardType, CardEffect> cardEffects;
+    private final TurnEventFactory eventFactory;
+    private final EngineMetrics metrics;
+    // Cached once: with metrics disabled the hot path only tests this flag
+    private final boolean metricsEnabled;
+    // null: players are called directly
+    private final DecisionDeadline decisionDeadline;
+
+    // Per-turn buffers, only used in low-allocation mode
+    private final boolean lowAllocation;
+    private final List<TurnEvent> eventBuffer = new ArrayList<>();
+    private final TurnResult reusableResult = new TurnResult(Collections.unmodifiableList(eventBuffer));
+    private final ReusableTurnView reusableView;
 
     public TurnProcessor(Deck deck, List<Player> players, RoundState state) {
-        this(deck, players, state, new DefaultProbabilityCalculator());
+        this(deck, players, state, EngineOptions.defaults());
     }
 
     public TurnProcessor(Deck deck, List<Player> players, RoundState state, SuccessProbabilityCalculator probabilityCalculator) {
+        this(deck, players, state, EngineOptions.defaults().withProbabilityCalculator(probabilityCalculator));
+    }
+
+    public TurnProcessor(Deck deck, List<Player> players, RoundState state, EngineOptions options) {
         this.deck = deck;
         this.players = players;
         this.state = state;
-        this.probabilityCalculator = probabilityCalculator;
+        this.probabilityCalculator = options.probabilityCalculator();
+        this.lowAllocation = options.lowAllocation();
+        this.eventFactory = lowAllocation ? new CachingTurnEventFactory(players) : TurnEventFactory.ALLOCATING;
+        this.metrics = options.metrics();
+        this.metricsEnabled = metrics.enabled();
+        this.decisionDeadline = options.decisionDeadline();
+        this.reusableView = new ReusableTurnView(deck, state, this::successProbability);
         this.cardEffects = Map.of(
                 CardType.FREEZE, new FreezeEffect(),
                 CardType.FLIP_THREE, new FlipThreeEffect(),
@@ -42,67 +68,141 @@ public class TurnProcessor {
         );
     }
 
+    /**
+     * In low-allocation mode the returned result is reused and only valid until the next call.
+     */
     public TurnResult processTurn(Player player) {
-        List<TurnEvent> events = new ArrayList<>();
+        return processTurn(state.seatOf(player));
+    }
 
-        // Skip if player cannot act (e.g. BUSTED, STAYED, FROZEN)
-        if (!state.status(player).canAct()) return new TurnResult(events);
+    /**
+     * Seat based variant used by the engine loop: no player lookup needed.
+     */
+    public TurnResult processTurn(int seat) {
+        if (!metricsEnabled) {
+            return playTurn(seat);
+        }
+        long start = System.nanoTime();
+        TurnResult result = playTurn(seat);
+        if (!result.events().isEmpty()) {
+            metrics.recordNanos(Metric.TURNS, System.nanoTime() - start);
+        }
+        return result;
+    }
 
-        List<Card> hand = state.hand(player);
+    private TurnResult playTurn(int seat) {
+        List<TurnEvent> events = startTurn();
 
-        // Calculate probability of drawing a safe card
-        double successProb = probabilityCalculator.calculateSuccessProbability(
-                hand,
-                deck.viewDrawPile()
-        );
+        // Skip if player cannot act (e.g. BUSTED, STAYED, FROZEN)
+        if (!state.status(seat).canAct()) return result(events);
 
-        // Prepare info for player decision
-        TurnInfo info = new TurnInfo(
-                List.copyOf(hand),
-                calculatePoints(hand),
-                successProb,
-                deck.drawPileSize(),
-                state.securedPlayerNames(players)
-        );
+        Player player = state.player(seat);
+        Hand hand = state.hand(seat);
 
-        PlayerAction action = player.decide(info);
+        // Prepare info for player decision
+        PlayerAction action = decide(player, turnView(seat, hand));
 
         if (action == PlayerAction.STAY) {
-            state.setStatus(player, PlayerStatus.STAYED);
-            events.add(new TurnEvent.PlayerStayed(player));
-            return new TurnResult(events);
+            state.setStatus(seat, PlayerStatus.STAYED);
+            events.add(eventFactory.playerStayed(player));
+            return result(events);
         }
 
         // Player chose to HIT
-        drawAndResolve(player, events);
-        return new TurnResult(events);
+        drawAndResolve(seat, events);
+        return result(events);
     }
 
-    private void drawAndResolve(Player player, List<TurnEvent> events) {
-        if (!state.status(player).canAct()) return;
+    private double successProbability(Hand hand) {
+        if (!metricsEnabled) {
+            return probabilityCalculator.calculateSuccessProbability(hand, deck);
+        }
+        long start = System.nanoTime();
+        double probability = probabilityCalculator.calculateSuccessProbability(hand, deck);
+        metrics.recordNanos(Metric.PROBABILITY_CALCULATIONS, System.nanoTime() - start);
+        return probability;
+    }
+
+    private PlayerAction decide(Player player, TurnView view) {
+        if (!metricsEnabled) {
+            return callDecide(player, view);
+        }
+        long start = System.nanoTime();
+        PlayerAction action = callDecide(player, view);
+        metrics.recordNanos(Metric.DECISIONS, System.nanoTime() - start);
+        return action;
+    }
+
+    private PlayerAction callDecide(Player player, TurnView view) {
+        if (decisionDeadline != null) {
+            return decisionDeadline.decide(player, view);
+        }
+        return view instanceof TurnInfo info ? player.decide(info) : player.decideLive(view);
+    }
+
+    private List<TurnEvent> startTurn() {
+        if (lowAllocation) {
+            eventBuffer.clear();
+            return eventBuffer;
+        }
+        return new ArrayList<>();
+    }
 
-        List<Card> hand = state.hand(player);
-        Card drawn;
-        try {
-            drawn = deck.draw();
-        } catch (DeckEmptyException e) {
-            events.add(new TurnEvent.DeckEmpty());
+    private TurnResult result(List<TurnEvent> events) {
+        return lowAllocation ? reusableResult : new TurnResult(events);
+    }
+
+    private TurnView turnView(int seat, Hand hand) {
+        if (lowAllocation) {
+            // Lazy: probability and secured names only if the player reads them
+            return reusableView.update(state.handView(seat), hand, state.activeOpponents(seat));
+        }
+        int[] drawPileCounts = new int[CardCodec.CARD_KINDS];
+        deck.copyDrawPileCounts(drawPileCounts);
+        return new TurnInfo(
+                List.copyOf(hand),
+                hand.points(),
+                successProbability(hand),
+                deck.drawPileSize(),
+                state.securedPlayerNames(players),
+                drawPileCounts,
+                state.activeOpponents(seat)
+        );
+    }
+
+    private void drawAndResolve(int seat, List<TurnEvent> events) {
+        if (!state.status(seat).canAct()) return;
+
+        Player player = state.player(seat);
+        Hand hand = state.hand(seat);
+        // An empty draw pile is refilled from the discard pile by draw()
+        boolean refill = metricsEnabled && deck.drawPileSize() == 0;
+        int code = deck.tryDraw();
+        if (code == Deck.NO_CARD) {
+            events.add(eventFactory.deckEmpty());
             return;
         }
-        events.add(new TurnEvent.CardDrawn(player, drawn));
+        Card drawn = CardCodec.decode(code);
+        if (metricsEnabled) {
+            metrics.increment(Metric.DRAWS);
+            if (refill) {
+                metrics.increment(Metric.DECK_REFILLS);
+            }
+        }
+        events.add(eventFactory.cardDrawn(player, drawn));
 
         if (drawn.type() == CardType.NUMBER) {
-            boolean isDuplicate = hasNumberValue(hand, drawn.value());
+            boolean isDuplicate = hand.hasNumber(drawn.value());
 
             if (isDuplicate) {
                 // Check for Second Chance card to save the player
                 if (consumeSecondChanceIfAvailable(hand)) {
-                    events.add(new TurnEvent.SecondChanceConsumed(player, drawn));
-                    deck.discardAll(List.of(drawn));
+                    events.add(eventFactory.secondChanceConsumed(player, drawn));
+                    deck.discard(drawn);
                 } else {
                     hand.add(drawn); // Add to hand to show the duplicate
-                    state.setStatus(player, PlayerStatus.BUSTED);
-                    events.add(new TurnEvent.PlayerBusted(player, drawn));
+                    state.setStatus(seat, PlayerStatus.BUSTED);
+                    events.add(eventFactory.playerBusted(player, drawn));
                 }
                 return;
             }
@@ -125,9 +225,10 @@ public class TurnProcessor {
 
     // Made public for CardEffect implementations
     public void forceDraw(Player target, List<TurnEvent> events) {
+        int seat = state.seatOf(target);
         for (int i = 0; i < FLIP_THREE_COUNT; i++) {
-            if (!state.status(target).canAct()) return;
-            drawAndResolve(target, events);
+            if (!state.status(seat).canAct()) return;
+            drawAndResolve(seat, events);
         }
     }
 
@@ -135,15 +236,16 @@ public class TurnProcessor {
     public Optional<Player> selectTarget(Player actor, CardType actionType) {
         // Find eligible targets (other active players)
         List<Player> eligible = new ArrayList<>();
-        for (Player p : players) {
+        for (int seat = 0; seat < state.seatCount(); seat++) {
+            Player p = state.player(seat);
             if (p == actor) continue;
-            if (state.status(p).canAct()) eligible.add(p);
+            if (state.status(seat).canAct()) eligible.add(p);
         }
         if (eligible.isEmpty()) return Optional.empty();
 
         // Ask actor to choose a target
         List<String> names = eligible.stream().map(Player::getName).toList();
-        String chosenName = actor.chooseTarget(new TargetInfo(actionType, actor.getName(), names));
+        String chosenName = chooseTarget(actor, new TargetInfo(actionType, actor.getName(), names));
 
         for (Player p : eligible) {
             if (p.getName().equals(chosenName)) return Optional.of(p);
@@ -152,33 +254,35 @@ public class TurnProcessor {
         return Optional.of(eligible.getFirst());
     }
 
-    // Made public for CardEffect implementations
-    public void setStatus(Player player, PlayerStatus status) {
-        state.setStatus(player, status);
+    private String chooseTarget(Player actor, TargetInfo info) {
+        if (!metricsEnabled) {
+            return callChooseTarget(actor, info);
+        }
+        long start = System.nanoTime();
+        String chosenName = callChooseTarget(actor, info);
+        metrics.recordNanos(Metric.TARGET_CHOICES, System.nanoTime() - start);
+        return chosenName;
     }
 
-    private boolean consumeSecondChanceIfAvailable(List<Card> hand) {
-        for (int i = 0; i < hand.size(); i++) {
-            if (hand.get(i).type() == CardType.SECOND_CHANCE) {
-                Card consumed = hand.remove(i);
-                deck.discardAll(List.of(consumed));
-                return true;
-            }
-        }
-        return false;
+    private String callChooseTarget(Player actor, TargetInfo info) {
+        return decisionDeadline == null ? actor.chooseTarget(info) : decisionDeadline.chooseTarget(actor, info);
     }
 
-    private boolean hasNumberValue(List<Card> hand, int value) {
-        for (Card c : hand) {
-            if (c.type() == CardType.NUMBER && c.value() == value) return true;
-        }
-        return false;
+    // Made public for CardEffect implementations
+    public TurnEventFactory eventFactory() {
+        return eventFactory;
     }
 
-    private int calculatePoints(List<Card> hand) {
-        return hand.stream()
-                .filter(card -> card.type() == CardType.NUMBER)
-                .mapToInt(Card::value)
-                .sum();
+    // Made public for CardEffect implementations
+    public void setStatus(Player player, PlayerStatus status) {
+        state.setStatus(player, status);
+    }
+
+    private boolean consumeSecondChanceIfAvailable(Hand hand) {
+        if (!hand.removeCode(CardCodec.SECOND_CHANCE)) {
+            return false;
+        }
+        deck.discard(CardCodec.decode(CardCodec.SECOND_CHANCE));
+        return true;
     }
 }
@@ -0,0 +1,36 @@
+package com.flavia.metrics;
+
+/**
+ * Sink for engine measurements, set through EngineOptions.
+ *
+ * Decision:
+ * - The engine asks enabled() once per call site and skips System.nanoTime()
+ *   when it is false, so NOOP costs a field read and a branch.
+ * - Implementations must be thread-safe: one registry may be shared by many engines.
+ */
+public interface EngineMetrics {
+
+    EngineMetrics NOOP = new EngineMetrics() {
+        @Override
+        public boolean enabled() {
+            return false;
+        }
+
+        @Override
+        public void increment(Metric metric) {
+        }
+
+        @Override
+        public void recordNanos(Metric metric, long nanos) {
+        }
+    };
+
+    boolean enabled();
+
+    void increment(Metric metric);
+
+    /**
+     * Counts one call of a timed metric and records its duration.
+     */
+    void recordNanos(Metric metric, long nanos);
+}
@@ -0,0 +1,43 @@
+package com.flavia.metrics;
+
+/**
+ * Values of a LatencyHistogram at one point in time. Bucket layout: see LatencyHistogram.
+ */
+public record HistogramSnapshot(
+        long count,
+        long totalNanos,
+        long maxNanos,
+        long[] bucketCounts
+) {
+
+    public HistogramSnapshot {
+        bucketCounts = bucketCounts.clone();
+    }
+
+    @Override
+    public long[] bucketCounts() {
+        return bucketCounts.clone();
+    }
+
+    public double meanNanos() {
+        return count == 0 ? 0.0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Upper bound of the bucket that contains the given percentile (0-100).
+     */
+    public long percentileNanos(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * count);
+        long seen = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= Math.max(rank, 1)) {
+                return Math.min(LatencyHistogram.upperBound(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+}
@@ -0,0 +1,32 @@
+package com.flavia.metrics;
+
+/**
+ * What the engine measures. Timed metrics record a latency per call,
+ * the others only count.
+ */
+public enum Metric {
+    ROUNDS("rounds", true),
+    TURNS("turns", true),
+    DECISIONS("player_decisions", true),
+    TARGET_CHOICES("target_choices", true),
+    PROBABILITY_CALCULATIONS("probability_calculations", true),
+    DRAWS("draws", false),
+    DECK_REFILLS("deck_refills", false);
+
+    private final String exportName;
+    private final boolean timed;
+
+    Metric(String exportName, boolean timed) {
+        this.exportName = exportName;
+        this.timed = timed;
+    }
+
+    /** Name used in JSON and Prometheus output. */
+    public String exportName() {
+        return exportName;
+    }
+
+    public boolean timed() {
+        return timed;
+    }
+}
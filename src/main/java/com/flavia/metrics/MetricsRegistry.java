@@ -0,0 +1,69 @@
+package com.flavia.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collecting EngineMetrics: one counter per Metric, plus a latency histogram for timed metrics.
+ *
+ * Usage: EngineOptions.defaults().withMetrics(registry), play, then registry.snapshot().
+ *
+ * Decision:
+ * - Counters and histograms are created up front in arrays indexed by ordinal:
+ *   recording is lookup-free and never allocates.
+ * - LongAdder based, so parallel simulations can share one registry and
+ *   snapshots never block the engines.
+ */
+public class MetricsRegistry implements EngineMetrics {
+
+    private static final Metric[] METRICS = Metric.values();
+
+    private final LongAdder[] counters = new LongAdder[METRICS.length];
+    private final LatencyHistogram[] latencies = new LatencyHistogram[METRICS.length];
+    private final long createdNanos = System.nanoTime();
+
+    public MetricsRegistry() {
+        for (Metric metric : METRICS) {
+            counters[metric.ordinal()] = new LongAdder();
+            if (metric.timed()) {
+                latencies[metric.ordinal()] = new LatencyHistogram();
+            }
+        }
+    }
+
+    @Override
+    public boolean enabled() {
+        return true;
+    }
+
+    @Override
+    public void increment(Metric metric) {
+        counters[metric.ordinal()].increment();
+    }
+
+    @Override
+    public void recordNanos(Metric metric, long nanos) {
+        counters[metric.ordinal()].increment();
+        LatencyHistogram histogram = latencies[metric.ordinal()];
+        if (histogram != null) {
+            histogram.record(nanos);
+        }
+    }
+
+    public long count(Metric metric) {
+        return counters[metric.ordinal()].sum();
+    }
+
+    public MetricsSnapshot snapshot() {
+        Map<Metric, Long> counts = new EnumMap<>(Metric.class);
+        Map<Metric, HistogramSnapshot> histograms = new EnumMap<>(Metric.class);
+        for (Metric metric : METRICS) {
+            counts.put(metric, counters[metric.ordinal()].sum());
+            if (metric.timed()) {
+                histograms.put(metric, latencies[metric.ordinal()].snapshot());
+            }
+        }
+        return new MetricsSnapshot(System.nanoTime() - createdNanos, counts, histograms);
+    }
+}
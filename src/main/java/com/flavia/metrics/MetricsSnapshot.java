@@ -0,0 +1,138 @@
+package com.flavia.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Values of a MetricsRegistry at one point in time, exportable as JSON or Prometheus text.
+ *
+ * Decision:
+ * - Both formats are written by hand: they are small and the project has no runtime dependencies.
+ * - Prometheus output uses the text exposition format with cumulative "le" buckets in seconds,
+ *   so it can be served by any file-based exporter (e.g. node_exporter textfile collector).
+ * - Empty histogram buckets are left out of the JSON to keep it readable.
+ */
+public record MetricsSnapshot(
+        long uptimeNanos,
+        Map<Metric, Long> counters,
+        Map<Metric, HistogramSnapshot> latencies
+) {
+
+    private static final String PREFIX = "flip7_";
+
+    public MetricsSnapshot {
+        counters = Map.copyOf(counters);
+        latencies = Map.copyOf(latencies);
+    }
+
+    public long count(Metric metric) {
+        return counters.getOrDefault(metric, 0L);
+    }
+
+    public HistogramSnapshot latency(Metric metric) {
+        HistogramSnapshot histogram = latencies.get(metric);
+        if (histogram == null) {
+            throw new IllegalArgumentException(metric + " is not timed");
+        }
+        return histogram;
+    }
+
+    public String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n  \"uptimeNanos\": ").append(uptimeNanos).append(",\n  \"counters\": {");
+        String separator = "\n";
+        for (Metric metric : sorted(counters).keySet()) {
+            sb.append(separator).append("    \"").append(metric.exportName()).append("\": ").append(count(metric));
+            separator = ",\n";
+        }
+        sb.append("\n  },\n  \"latencies\": {");
+        separator = "\n";
+        for (Map.Entry<Metric, HistogramSnapshot> entry : sorted(latencies).entrySet()) {
+            HistogramSnapshot h = entry.getValue();
+            sb.append(separator).append("    \"").append(entry.getKey().exportName()).append("\": {")
+                    .append("\"count\": ").append(h.count())
+                    .append(", \"totalNanos\": ").append(h.totalNanos())
+                    .append(", \"meanNanos\": ").append(String.format(Locale.ROOT, "%.1f", h.meanNanos()))
+                    .append(", \"p50Nanos\": ").append(h.percentileNanos(50))
+                    .append(", \"p99Nanos\": ").append(h.percentileNanos(99))
+                    .append(", \"maxNanos\": ").append(h.maxNanos())
+                    .append(", \"buckets\": {");
+            long[] buckets = h.bucketCounts();
+            String bucketSeparator = "";
+            for (int i = 0; i < buckets.length; i++) {
+                if (buckets[i] != 0) {
+                    sb.append(bucketSeparator).append('"').append(LatencyHistogram.upperBound(i)).append("\": ")
+                            .append(buckets[i]);
+                    bucketSeparator = ", ";
+                }
+            }
+            sb.append("}}");
+            separator = ",\n";
+        }
+        sb.append("\n  }\n}\n");
+        return sb.toString();
+    }
+
+    public String toPrometheus() {
+        StringBuilder sb = new StringBuilder();
+        for (Metric metric : sorted(counters).keySet()) {
+            String name = PREFIX + metric.exportName() + "_total";
+            sb.append("# TYPE ").append(name).append(" counter\n");
+            sb.append(name).append(' ').append(count(metric)).append('\n');
+        }
+        for (Map.Entry<Metric, HistogramSnapshot> entry : sorted(latencies).entrySet()) {
+            String name = PREFIX + entry.getKey().exportName() + "_seconds";
+            HistogramSnapshot h = entry.getValue();
+            sb.append("# TYPE ").append(name).append(" histogram\n");
+            long[] buckets = h.bucketCounts();
+            long cumulative = 0;
+            int last = lastNonEmpty(buckets);
+            for (int i = 0; i <= last && i < LatencyHistogram.BUCKETS - 1; i++) {
+                cumulative += buckets[i];
+                sb.append(name).append("_bucket{le=\"").append(seconds(LatencyHistogram.upperBound(i)))
+                        .append("\"} ").append(cumulative).append('\n');
+            }
+            sb.append(name).append("_bucket{le=\"+Inf\"} ").append(h.count()).append('\n');
+            sb.append(name).append("_sum ").append(seconds(h.totalNanos())).append('\n');
+            sb.append(name).append("_count ").append(h.count()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    public void writeJson(Path file) {
+        write(file, toJson());
+    }
+
+    public void writePrometheus(Path file) {
+        write(file, toPrometheus());
+    }
+
+    private static void write(Path file, String content) {
+        try {
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write metrics to " + file, e);
+        }
+    }
+
+    private static <V> Map<Metric, V> sorted(Map<Metric, V> map) {
+        return map.isEmpty() ? map : new EnumMap<>(map);
+    }
+
+    private static int lastNonEmpty(long[] buckets) {
+        for (int i = buckets.length - 1; i >= 0; i--) {
+            if (buckets[i] != 0) return i;
+        }
+        return -1;
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.9f", nanos / 1e9);
+    }
+}
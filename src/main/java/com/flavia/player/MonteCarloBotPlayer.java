@@ -0,0 +1,291 @@
+package com.flavia.player;
+
+import com.flavia.domain.enums.PlayerAction;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.CardCodec;
+import com.flavia.domain.model.DeckSpec;
+import com.flavia.domain.model.TurnInfo;
+import com.flavia.domain.model.TurnView;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bot that estimates the value of HIT by random playouts over the remaining draw pile.
+ *
+ * A playout draws the forced card, applies it to a copy of the hand, and keeps
+ * drawing while a one-step look-ahead says it pays off. STAY is worth the points in hand.
+ *
+ * Decision:
+ * - Playouts sample card codes from the draw pile counts in TurnInfo, not from a
+ *   Deck copy: the player never sees the engine's deck. Without counts, the assumed
+ *   DeckSpec (standard deck by default) minus the own hand is used.
+ * - Freeze is played on an opponent (no effect on the own hand), Flip Three removes
+ *   three more cards from the pile for the opponent.
+ * - Playouts run on a ForkJoinPool in batches of PLAYOUTS_PER_TASK. Each worker
+ *   thread keeps one Playout buffer, so a playout allocates nothing.
+ * - Stops at the playout count or the time budget, whichever comes first.
+ *   If no playout finished in time, the bot stays.
+ */
+public class MonteCarloBotPlayer implements Player {
+
+    public static final int DEFAULT_PLAYOUTS = 2_000;
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(5);
+    static final int PLAYOUTS_PER_TASK = 256;
+    // Playouts between two clock reads
+    private static final int DEADLINE_CHECK_INTERVAL = 8;
+
+    private static final ThreadLocal<Playout> PLAYOUT_BUFFERS = ThreadLocal.withInitial(Playout::new);
+
+    private final String name;
+    private final int playouts;
+    private final long budgetNanos;
+    private final ForkJoinPool pool;
+    private final SplittableRandom random;
+    private final DeckSpec assumedDeck;
+
+    private final LongAdder totalPlayouts = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    public MonteCarloBotPlayer(String name) {
+        this(name, DEFAULT_PLAYOUTS, DEFAULT_BUDGET, ForkJoinPool.commonPool(), System.nanoTime());
+    }
+
+    /**
+     * @param playouts playouts per decision (upper bound)
+     * @param budget   time per decision (upper bound)
+     * @param pool     pool the playouts run on; not shut down by the bot
+     * @param seed     seed of the playout randomness
+     */
+    public MonteCarloBotPlayer(String name, int playouts, Duration budget, ForkJoinPool pool, long seed) {
+        this(name, playouts, budget, pool, seed, DeckSpec.STANDARD);
+    }
+
+    /**
+     * @param assumedDeck composition assumed when TurnInfo has no draw pile counts
+     */
+    public MonteCarloBotPlayer(String name, int playouts, Duration budget, ForkJoinPool pool, long seed,
+                               DeckSpec assumedDeck) {
+        if (playouts < 1) {
+            throw new IllegalArgumentException("playouts must be positive");
+        }
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("budget must be positive");
+        }
+        this.name = name;
+        this.playouts = playouts;
+        this.budgetNanos = budget.toNanos();
+        this.pool = pool;
+        this.random = new SplittableRandom(seed);
+        this.assumedDeck = assumedDeck;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public PlayerAction decide(TurnInfo info) {
+        return decideLive(info);
+    }
+
+    // The view is read into a Root before the playouts start
+    @Override
+    public PlayerAction decideLive(TurnView info) {
+        return estimateHitValue(info) > info.currentPoints() ? PlayerAction.HIT : PlayerAction.STAY;
+    }
+
+    /**
+     * Mean round score of the playouts that start with a HIT.
+     * Returns the current points if no playout finished within the budget.
+     */
+    public double estimateHitValue(TurnView info) {
+        long start = System.nanoTime();
+        Root root = Root.of(info, assumedDeck);
+
+        PlayoutTask task = new PlayoutTask(root, playouts, random.split(), start + budgetNanos);
+        pool.invoke(task);
+
+        totalPlayouts.add(task.completed);
+        totalNanos.add(System.nanoTime() - start);
+        return task.completed == 0 ? info.currentPoints() : (double) task.pointSum / task.completed;
+    }
+
+    public long totalPlayouts() {
+        return totalPlayouts.sum();
+    }
+
+    /**
+     * Playouts per second of decision time, over all decisions so far.
+     */
+    public double playoutsPerSecond() {
+        long nanos = totalNanos.sum();
+        return nanos == 0 ? 0.0 : totalPlayouts.sum() * 1_000_000_000.0 / nanos;
+    }
+
+    /** Immutable start state of one decision, shared by all playout tasks. */
+    private record Root(int[] counts, int total, int mask, int secondChances, int points) {
+
+        static Root of(TurnView info, DeckSpec assumedDeck) {
+            int[] counts = new int[CardCodec.CARD_KINDS];
+            int mask = 0;
+            int secondChances = 0;
+            for (Card card : info.myCards()) {
+                int code = CardCodec.encode(card);
+                if (CardCodec.isNumber(code)) {
+                    mask |= 1 << code;
+                } else if (code == CardCodec.SECOND_CHANCE) {
+                    secondChances++;
+                }
+            }
+            if (info.hasDrawPileCounts()) {
+                for (int code = 0; code < counts.length; code++) {
+                    counts[code] = info.drawPileCount(code);
+                }
+            } else {
+                fillAssumedComposition(assumedDeck, counts, mask, secondChances);
+            }
+            int total = 0;
+            for (int count : counts) {
+                total += count;
+            }
+            return new Root(counts, total, mask, secondChances, info.currentPoints());
+        }
+
+        // Full assumed shoe minus the own hand
+        private static void fillAssumedComposition(DeckSpec assumedDeck, int[] into, int mask, int secondChances) {
+            assumedDeck.copyCounts(into);
+            for (int value = 0; value <= CardCodec.MAX_NUMBER_VALUE; value++) {
+                if ((mask & (1 << value)) != 0 && into[value] > 0) {
+                    into[value]--;
+                }
+            }
+            into[CardCodec.SECOND_CHANCE] = Math.max(0, into[CardCodec.SECOND_CHANCE] - secondChances);
+        }
+    }
+
+    /** Splits the playouts into batches and sums up their results. */
+    private static final class PlayoutTask extends RecursiveAction {
+        private final Root root;
+        private final int count;
+        private final SplittableRandom random;
+        private final long deadline;
+
+        long pointSum;
+        int completed;
+
+        PlayoutTask(Root root, int count, SplittableRandom random, long deadline) {
+            this.root = root;
+            this.count = count;
+            this.random = random;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected void compute() {
+            if (System.nanoTime() - deadline > 0) {
+                return;
+            }
+            if (count > PLAYOUTS_PER_TASK) {
+                int half = count / 2;
+                PlayoutTask left = new PlayoutTask(root, half, random.split(), deadline);
+                PlayoutTask right = new PlayoutTask(root, count - half, random.split(), deadline);
+                invokeAll(left, right);
+                pointSum = left.pointSum + right.pointSum;
+                completed = left.completed + right.completed;
+                return;
+            }
+
+            Playout playout = PLAYOUT_BUFFERS.get();
+            for (int i = 0; i < count; i++) {
+                if (i % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                    break;
+                }
+                pointSum += playout.run(root, random);
+                completed++;
+            }
+        }
+    }
+
+    /** Reusable per-thread state of a single playout. */
+    private static final class Playout {
+        private final int[] counts = new int[CardCodec.CARD_KINDS];
+        private int total;
+
+        /**
+         * Plays the rest of the round for the own hand, starting with a HIT.
+         *
+         * @return points at the end of the round, 0 on bust
+         */
+        int run(Root root, SplittableRandom random) {
+            System.arraycopy(root.counts(), 0, counts, 0, counts.length);
+            total = root.total();
+            int mask = root.mask();
+            int secondChances = root.secondChances();
+            int points = root.points();
+
+            do {
+                int code = draw(random);
+                if (code < 0) {
+                    return points;
+                }
+                if (CardCodec.isNumber(code)) {
+                    int bit = 1 << code;
+                    if ((mask & bit) == 0) {
+                        mask |= bit;
+                        points += code;
+                    } else if (secondChances > 0) {
+                        secondChances--;
+                    } else {
+                        return 0;
+                    }
+                } else if (code == CardCodec.SECOND_CHANCE) {
+                    secondChances++;
+                } else if (code == CardCodec.FLIP_THREE) {
+                    // Played on an opponent, who takes the next three cards
+                    for (int i = 0; i < 3; i++) {
+                        if (draw(random) < 0) {
+                            break;
+                        }
+                    }
+                }
+            } while (worthHitting(mask, secondChances, points));
+            return points;
+        }
+
+        // One-step look-ahead: hit if the expected gain of new values beats the expected bust loss
+        private boolean worthHitting(int mask, int secondChances, int points) {
+            long gain = 0;
+            long duplicates = 0;
+            for (int value = 0; value <= CardCodec.MAX_NUMBER_VALUE; value++) {
+                if ((mask & (1 << value)) == 0) {
+                    gain += (long) counts[value] * value;
+                } else {
+                    duplicates += counts[value];
+                }
+            }
+            long bustLoss = secondChances > 0 ? 0 : duplicates * points;
+            return gain > bustLoss;
+        }
+
+        private int draw(SplittableRandom random) {
+            if (total == 0) {
+                return -1;
+            }
+            int r = random.nextInt(total);
+            for (int code = 0; code < counts.length; code++) {
+                r -= counts[code];
+                if (r < 0) {
+                    counts[code]--;
+                    total--;
+                    return code;
+                }
+            }
+            throw new IllegalStateException("Counts out of sync");
+        }
+    }
+}
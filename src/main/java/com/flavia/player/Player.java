@@ -2,6 +2,7 @@ package com.flavia.player;
 
 import com.flavia.domain.enums.PlayerAction;
 import com.flavia.domain.model.TurnInfo;
+import com.flavia.domain.model.TurnView;
 
 /**
  * Player interface: defines ONLY the decision logic.
@@ -10,11 +11,21 @@ import com.flavia.domain.model.TurnInfo;
  * - Engine asks: "HIT or STAY?"
  * - Player gets snapshot (TurnInfo).
  * - No engine manipulation allowed.
+ * - In low-allocation mode the engine calls decideLive with a reused view instead.
  */
 public interface Player {
 
     PlayerAction decide(TurnInfo turnInfo);
 
+    /**
+     * Called instead of decide in low-allocation mode. The view is reused by the engine
+     * and only valid during this call. The default decides on an immutable snapshot;
+     * players that read only some fields override this to skip the copy.
+     */
+    default PlayerAction decideLive(TurnView view) {
+        return decide(view.snapshot());
+    }
+
     String getName();
 
     // Default implementation picks the first available target
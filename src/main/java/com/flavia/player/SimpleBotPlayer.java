@@ -2,6 +2,7 @@ package com.flavia.player;
 
 import com.flavia.domain.enums.PlayerAction;
 import com.flavia.domain.model.TurnInfo;
+import com.flavia.domain.model.TurnView;
 
 /**
  * Simple Bot: Hits until a point limit is reached, then stays.
@@ -14,10 +15,17 @@ public class SimpleBotPlayer implements Player {
 
     private final String name;
     private final int hitUntilPoints;
+    // Console output is only wanted in interactive games, not in simulations
+    private final boolean verbose;
 
     public SimpleBotPlayer(String name, int hitUntilPoints) {
+        this(name, hitUntilPoints, true);
+    }
+
+    public SimpleBotPlayer(String name, int hitUntilPoints, boolean verbose) {
         this.name = name;
         this.hitUntilPoints = hitUntilPoints;
+        this.verbose = verbose;
     }
 
     @Override
@@ -27,12 +35,18 @@ public class SimpleBotPlayer implements Player {
 
     @Override
     public PlayerAction decide(TurnInfo info) {
+        return decideLive(info);
+    }
+
+    // Reads only currentPoints(), so the live view needs no snapshot
+    @Override
+    public PlayerAction decideLive(TurnView info) {
         // Simple strategy: hit until the score limit is reached
         if (info.currentPoints() < hitUntilPoints) {
-            System.out.println(name + " hits.");
+            if (verbose) System.out.println(name + " hits.");
             return PlayerAction.HIT;
         }
-        System.out.println(name + " stays.");
+        if (verbose) System.out.println(name + " stays.");
         return PlayerAction.STAY;
     }
 }
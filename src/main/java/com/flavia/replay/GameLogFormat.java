@@ -0,0 +1,84 @@
+package com.flavia.replay;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of the binary game log.
+ *
+ * File:   MAGIC (int) VERSION (byte) game*
+ * Game:   GAME_START gameId (varlong) seed (long) targetScore (varint)
+ *         playerCount (varint) [nameLength (varint) utf8-bytes]*
+ *         (ROUND_START | TURN seat (varint) eventCount (varint) event*
+ *          | TURN_DRAW seat (varint) card (byte) | TURN_STAY seat (varint))*
+ *         GAME_END winnerSeat+1 (varint, 0 = no winner) rounds (varint)
+ * Event:  kind (byte) followed by the fields of LoggedEvent.Kind
+ *
+ * Decision:
+ * - Players are written once per game and referenced by seat, cards by their
+ *   CardCodec byte.
+ * - The two most common turns (a single own draw, a stay) have short forms of 2-3 bytes.
+ * - Varints are unsigned LEB128: 7 bits per byte, high bit = more bytes follow.
+ */
+final class GameLogFormat {
+
+    static final int MAGIC = 0x46374C47; // "F7LG"
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 5;
+
+    static final byte GAME_START = 1;
+    static final byte ROUND_START = 2;
+    static final byte TURN = 3;
+    static final byte GAME_END = 4;
+    static final byte TURN_DRAW = 5;
+    static final byte TURN_STAY = 6;
+
+    // Upper bounds used to reserve buffer space before writing
+    static final int MAX_VARINT_BYTES = 5;
+    static final int MAX_VARLONG_BYTES = 10;
+    static final int MAX_EVENT_BYTES = 1 + 1 + MAX_VARINT_BYTES * 2;
+    // A turn has at most a few hundred events (one per card in play), so this is never reached
+    static final int MAX_TURN_BYTES = 1 << 13;
+
+    private GameLogFormat() {
+    }
+
+    static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static int getVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varlong");
+    }
+}
@@ -0,0 +1,111 @@
+package com.flavia.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+/**
+ * Index file of a game log: one fixed-size entry per game, in log order.
+ *
+ * File:  MAGIC (int) VERSION (byte) entry*
+ * Entry: gameId (long) offset (long) length (int) winnerSeat (short, -1 = none) rounds (short)
+ *
+ * Decision:
+ * - Fixed-size entries: game #n is at HEADER_SIZE + n * ENTRY_SIZE, no search needed.
+ * - Winner and rounds are duplicated here, so filtering games never touches the log body.
+ * - Written by GameLogWriter next to the log; rebuild() creates it for existing logs.
+ * - An index whose last entry does not end at the end of the log is stale (e.g. the
+ *   log was appended to without it, or a write was cut short) and gets rebuilt.
+ */
+public final class GameLogIndex {
+
+    static final int MAGIC = 0x46374958; // "F7IX"
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 5;
+    static final int ENTRY_SIZE = 24;
+
+    private GameLogIndex() {
+    }
+
+    /**
+     * Writes a fresh index for the log by scanning it once.
+     */
+    public static void rebuild(Path log, Path index) throws IOException {
+        try (MappedGameLog mapped = MappedGameLog.open(log);
+             FileChannel out = FileChannel.open(index, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(ENTRY_SIZE * 1024);
+            writeHeader(buffer);
+            Iterator<GameView> games = mapped.games().iterator();
+            while (games.hasNext()) {
+                GameView game = games.next();
+                if (buffer.remaining() < ENTRY_SIZE) {
+                    writeFully(out, buffer);
+                }
+                putEntry(buffer, game.gameId(), game.offset(), game.length(), game.winnerSeat(), game.rounds());
+            }
+            writeFully(out, buffer);
+        }
+    }
+
+    /**
+     * Tells whether the index covers the log exactly: whole entries only, and the last
+     * entry ends where the log ends (or no entry and a log without games).
+     *
+     * @throws IOException if the index file has a foreign header
+     */
+    static boolean matches(Path log, Path index) throws IOException {
+        try (FileChannel in = FileChannel.open(index, StandardOpenOption.READ)) {
+            long size = in.size();
+            if (size < HEADER_SIZE || (size - HEADER_SIZE) % ENTRY_SIZE != 0) {
+                return false;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            in.read(header, 0);
+            checkHeader(header.flip());
+
+            long logSize = Files.size(log);
+            if (size == HEADER_SIZE) {
+                return logSize <= GameLogFormat.HEADER_SIZE;
+            }
+            ByteBuffer last = ByteBuffer.allocate(ENTRY_SIZE);
+            while (last.hasRemaining()) {
+                in.read(last, size - ENTRY_SIZE + last.position());
+            }
+            return last.getLong(8) + last.getInt(16) == logSize;
+        }
+    }
+
+    static void writeHeader(ByteBuffer buffer) {
+        buffer.putInt(MAGIC).put(VERSION);
+    }
+
+    static void putEntry(ByteBuffer buffer, long gameId, long offset, int length, int winnerSeat, int rounds) {
+        buffer.putLong(gameId)
+                .putLong(offset)
+                .putInt(length)
+                .putShort((short) winnerSeat)
+                .putShort((short) Math.min(rounds, 0xFFFF));
+    }
+
+    static void checkHeader(ByteBuffer index) throws IOException {
+        if (index.limit() < HEADER_SIZE || index.getInt(0) != MAGIC) {
+            throw new IOException("Not a Flip7 game log index");
+        }
+        if (index.get(4) != VERSION) {
+            throw new IOException("Unsupported game log index version " + index.get(4));
+        }
+    }
+
+    static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
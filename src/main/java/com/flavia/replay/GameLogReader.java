@@ -0,0 +1,146 @@
+package com.flavia.replay;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads a game log written by GameLogWriter, one game at a time.
+ *
+ * Decision:
+ * - Sequential reads through a 64 KB buffer; memory use does not depend on the file size.
+ *   For random access by game, see MappedGameLog.
+ * - A record cut off at the end of the file (e.g. writer crashed) is reported as IOException.
+ */
+public class GameLogReader implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private boolean endOfFile;
+
+    public GameLogReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        checkHeader(channel);
+        channel.position(GameLogFormat.HEADER_SIZE);
+        buffer.flip();
+    }
+
+    /**
+     * Next game of the log, or empty at the end of the file.
+     */
+    public Optional<LoggedGame> next() throws IOException {
+        if (!fill(1)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(readGame());
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated game record", e);
+        }
+    }
+
+    /**
+     * Reads all remaining games. Meant for small logs and tests.
+     */
+    public List<LoggedGame> readAll() throws IOException {
+        List<LoggedGame> games = new ArrayList<>();
+        for (Optional<LoggedGame> game = next(); game.isPresent(); game = next()) {
+            games.add(game.get());
+        }
+        return games;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private LoggedGame readGame() throws IOException {
+        fill(1 + GameLogFormat.MAX_VARLONG_BYTES + Long.BYTES + 2 * GameLogFormat.MAX_VARINT_BYTES);
+        expect(GameLogFormat.GAME_START);
+        long gameId = GameLogFormat.getVarLong(buffer);
+        long seed = buffer.getLong();
+        int targetScore = GameLogFormat.getVarInt(buffer);
+        int playerCount = GameLogFormat.getVarInt(buffer);
+
+        List<String> names = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            fill(GameLogFormat.MAX_VARINT_BYTES);
+            byte[] name = new byte[GameLogFormat.getVarInt(buffer)];
+            fill(name.length);
+            buffer.get(name);
+            names.add(new String(name, StandardCharsets.UTF_8));
+        }
+
+        List<LoggedTurn> turns = new ArrayList<>();
+        int round = 0;
+        while (true) {
+            fill(GameLogFormat.MAX_TURN_BYTES);
+            byte tag = buffer.get();
+            if (tag == GameLogFormat.ROUND_START) {
+                round++;
+            } else if (LoggedTurn.isTurnTag(tag)) {
+                turns.add(LoggedTurn.read(buffer, tag, round));
+            } else if (tag == GameLogFormat.GAME_END) {
+                int winnerSeat = GameLogFormat.getVarInt(buffer) - 1;
+                int rounds = GameLogFormat.getVarInt(buffer);
+                return new LoggedGame(gameId, seed, targetScore, List.copyOf(names), List.copyOf(turns),
+                        winnerSeat, rounds);
+            } else {
+                throw new IOException("Unknown record tag " + tag);
+            }
+        }
+    }
+
+    private void expect(byte tag) throws IOException {
+        byte actual = buffer.get();
+        if (actual != tag) {
+            throw new IOException("Expected record tag " + tag + " but found " + actual);
+        }
+    }
+
+    // Makes at least min bytes readable if the file still has them; false if fewer are left
+    private boolean fill(int min) throws IOException {
+        if (buffer.remaining() >= min) {
+            return true;
+        }
+        buffer.compact();
+        while (buffer.position() < min && !endOfFile) {
+            if (channel.read(buffer) < 0) {
+                endOfFile = true;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining() >= min;
+    }
+
+    static void checkHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(GameLogFormat.HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) <= 0) {
+                break;
+            }
+        }
+        header.flip();
+        checkHeader(header);
+    }
+
+    static void checkHeader(ByteBuffer log) throws IOException {
+        if (log.limit() < GameLogFormat.HEADER_SIZE || log.getInt(0) != GameLogFormat.MAGIC) {
+            throw new IOException("Not a Flip7 game log");
+        }
+        byte version = log.get(4);
+        if (version != GameLogFormat.VERSION) {
+            throw new IOException("Unsupported game log version " + version);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.flavia.replay;
+
+import com.flavia.domain.model.CardCodec;
+import com.flavia.engine.GameEventListener;
+import com.flavia.engine.Seats;
+import com.flavia.engine.TurnEvent;
+import com.flavia.player.Player;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends games to a binary log file (see GameLogFormat).
+ *
+ * Usage: beginGame(...), pass the writer as (or inside) the engine's listener, endGame().
+ *
+ * Decision:
+ * - Events are encoded straight into a direct buffer, which is written to the
+ *   FileChannel when full: one system call per 64 KB, no objects per event.
+ * - The seed is logged with the game, so GameReplayer can deal the same cards again.
+ * - Optionally keeps a GameLogIndex next to the log, one entry per finished game.
+ * - Not thread-safe: one writer per thread (or per sequential simulator).
+ * - Listener methods cannot throw IOException; write errors surface as UncheckedIOException.
+ */
+public class GameLogWriter implements GameEventListener, AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final int INDEX_BUFFER_ENTRIES = 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    // File position of buffer[0]
+    private long flushedBytes;
+
+    // Null if no index is kept
+    private final FileChannel indexChannel;
+    private final ByteBuffer indexBuffer;
+    private long gameId;
+    private long gameOffset;
+
+    private List<Player> players = List.of();
+    private boolean inGame;
+    private int winnerSeat = -1;
+    private int rounds;
+    private long gamesWritten;
+
+    /**
+     * Opens the log for appending; creates it (with header) if it does not exist yet.
+     */
+    public GameLogWriter(Path file) throws IOException {
+        this(file, null);
+    }
+
+    /**
+     * Also appends to the index file. A missing or stale index of an existing log
+     * (see GameLogIndex.matches) is rebuilt first; an index left over next to a new or
+     * empty log is started afresh.
+     */
+    public GameLogWriter(Path file, Path index) throws IOException {
+        boolean logExists = Files.exists(file) && Files.size(file) > 0;
+        if (index != null && logExists && (!Files.exists(index) || !GameLogIndex.matches(file, index))) {
+            GameLogIndex.rebuild(file, index);
+        }
+
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() == 0) {
+            buffer.putInt(GameLogFormat.MAGIC).put(GameLogFormat.VERSION);
+        } else {
+            GameLogReader.checkHeader(channel);
+            channel.position(channel.size());
+        }
+        this.flushedBytes = channel.position();
+
+        if (index == null) {
+            this.indexChannel = null;
+            this.indexBuffer = null;
+            return;
+        }
+        this.indexChannel = logExists
+                ? FileChannel.open(index, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(index, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+        this.indexBuffer = ByteBuffer.allocateDirect(GameLogIndex.ENTRY_SIZE * INDEX_BUFFER_ENTRIES);
+        if (indexChannel.size() == 0) {
+            GameLogIndex.writeHeader(indexBuffer);
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(GameLogIndex.HEADER_SIZE);
+            indexChannel.read(header, 0);
+            GameLogIndex.checkHeader(header.flip());
+            indexChannel.position(indexChannel.size());
+        }
+    }
+
+    public void beginGame(long gameId, long seed, int targetScore, List<Player> players) {
+        if (inGame) {
+            throw new IllegalStateException("Previous game was not ended");
+        }
+        this.players = List.copyOf(players);
+        this.inGame = true;
+        this.winnerSeat = -1;
+        this.rounds = 0;
+        this.gameId = gameId;
+        this.gameOffset = flushedBytes + buffer.position();
+
+        reserve(1 + GameLogFormat.MAX_VARLONG_BYTES + Long.BYTES + 2 * GameLogFormat.MAX_VARINT_BYTES);
+        buffer.put(GameLogFormat.GAME_START);
+        GameLogFormat.putVarLong(buffer, gameId);
+        buffer.putLong(seed);
+        GameLogFormat.putVarInt(buffer, targetScore);
+        GameLogFormat.putVarInt(buffer, players.size());
+        for (Player player : players) {
+            byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+            reserve(GameLogFormat.MAX_VARINT_BYTES + name.length);
+            GameLogFormat.putVarInt(buffer, name.length);
+            buffer.put(name);
+        }
+    }
+
+    @Override
+    public void onRoundStart() {
+        checkInGame();
+        rounds++;
+        reserve(1);
+        buffer.put(GameLogFormat.ROUND_START);
+    }
+
+    @Override
+    public void onTurn(Player player, List<TurnEvent> events) {
+        checkInGame();
+        int maxBytes = 1 + 2 * GameLogFormat.MAX_VARINT_BYTES + events.size() * GameLogFormat.MAX_EVENT_BYTES;
+        if (maxBytes > GameLogFormat.MAX_TURN_BYTES) {
+            throw new IllegalArgumentException("Turn too large for the log: " + events.size() + " events");
+        }
+        reserve(maxBytes);
+        int seat = Seats.seatOf(players, player);
+        if (events.size() == 1 && writeShortTurn(seat, player, events.getFirst())) {
+            return;
+        }
+        buffer.put(GameLogFormat.TURN);
+        GameLogFormat.putVarInt(buffer, seat);
+        GameLogFormat.putVarInt(buffer, events.size());
+        for (TurnEvent event : events) {
+            LoggedEvent.write(buffer, event, players);
+        }
+    }
+
+    private boolean writeShortTurn(int seat, Player player, TurnEvent event) {
+        if (event instanceof TurnEvent.CardDrawn(Player drawer, var card) && drawer == player) {
+            buffer.put(GameLogFormat.TURN_DRAW);
+            GameLogFormat.putVarInt(buffer, seat);
+            buffer.put(CardCodec.encode(card));
+            return true;
+        }
+        if (event instanceof TurnEvent.PlayerStayed(Player stayer) && stayer == player) {
+            buffer.put(GameLogFormat.TURN_STAY);
+            GameLogFormat.putVarInt(buffer, seat);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void onGameWon(Player winner) {
+        checkInGame();
+        winnerSeat = Seats.seatOf(players, winner);
+    }
+
+    /**
+     * Closes the current game record, with or without a winner.
+     */
+    public void endGame() {
+        checkInGame();
+        reserve(1 + 2 * GameLogFormat.MAX_VARINT_BYTES);
+        buffer.put(GameLogFormat.GAME_END);
+        GameLogFormat.putVarInt(buffer, winnerSeat + 1);
+        GameLogFormat.putVarInt(buffer, rounds);
+        inGame = false;
+        gamesWritten++;
+
+        if (indexBuffer != null) {
+            if (indexBuffer.remaining() < GameLogIndex.ENTRY_SIZE) {
+                flush();
+            }
+            int length = (int) (flushedBytes + buffer.position() - gameOffset);
+            GameLogIndex.putEntry(indexBuffer, gameId, gameOffset, length, winnerSeat, rounds);
+        }
+    }
+
+    public long gamesWritten() {
+        return gamesWritten;
+    }
+
+    /**
+     * Writes buffered bytes to the file.
+     */
+    public void flush() {
+        flushedBytes += buffer.position();
+        try {
+            GameLogIndex.writeFully(channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Index entries only point to bytes that are already in the log
+        if (indexBuffer != null) {
+            flushIndex();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+            if (indexChannel != null) {
+                indexChannel.close();
+            }
+        }
+    }
+
+    private void flushIndex() {
+        try {
+            GameLogIndex.writeFully(indexChannel, indexBuffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void reserve(int bytes) {
+        if (bytes > BUFFER_SIZE) {
+            throw new IllegalArgumentException("Record part too large for the log buffer: " + bytes + " bytes");
+        }
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void checkInGame() {
+        if (!inGame) {
+            throw new IllegalStateException("beginGame() must be called first");
+        }
+    }
+}
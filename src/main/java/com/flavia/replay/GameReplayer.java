@@ -0,0 +1,65 @@
+package com.flavia.replay;
+
+import com.flavia.domain.model.Deck;
+import com.flavia.engine.EngineOptions;
+import com.flavia.engine.GameEngine;
+import com.flavia.engine.GameEventListener;
+import com.flavia.player.Player;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+/**
+ * Replays a logged game through GameEngine.
+ *
+ * Decision:
+ * - Replays the game, not just the events: the deck is rebuilt from the logged seed and
+ *   scripted players repeat the logged decisions, so the engine produces the same events.
+ * - The deck factory must match the one of the original run (default: Deck(seed)).
+ */
+public class GameReplayer {
+
+    private final LongFunction<Deck> deckFactory;
+    private final EngineOptions options;
+
+    public GameReplayer() {
+        this(Deck::new, EngineOptions.defaults());
+    }
+
+    public GameReplayer(LongFunction<Deck> deckFactory, EngineOptions options) {
+        this.deckFactory = deckFactory;
+        this.options = options;
+    }
+
+    /**
+     * Plays the logged game again and publishes all events to the listener.
+     *
+     * @return the winner of the replay (a stand-in player with the logged name)
+     */
+    public Optional<Player> replay(LoggedGame game, GameEventListener listener) {
+        return play(game, List.copyOf(ReplayPlayer.fromLog(game)), listener);
+    }
+
+    /**
+     * Replays the game into another log under the same id and seed (e.g. to verify or copy a log).
+     */
+    public Optional<Player> replayInto(LoggedGame game, GameLogWriter log) {
+        List<Player> players = List.copyOf(ReplayPlayer.fromLog(game));
+        log.beginGame(game.gameId(), game.seed(), game.targetScore(), players);
+        Optional<Player> winner = play(game, players, log);
+        log.endGame();
+        return winner;
+    }
+
+    private Optional<Player> play(LoggedGame game, List<Player> players, GameEventListener listener) {
+        GameEngine engine = new GameEngine(players, deckFactory.apply(game.seed()), game.targetScore(),
+                listener, options);
+
+        Optional<Player> winner = Optional.empty();
+        for (int round = 0; round < game.rounds() && winner.isEmpty(); round++) {
+            winner = engine.playRound();
+        }
+        return winner;
+    }
+}
@@ -0,0 +1,238 @@
+package com.flavia.replay;
+
+import com.flavia.engine.TurnEvent;
+import com.flavia.player.Player;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * One game record inside a MappedGameLog, decoded on access.
+ *
+ * Decision:
+ * - Wraps a slice of the mapped file: creating a view copies no bytes.
+ * - The header (id, seed, names) is decoded on first access; turns are decoded one
+ *   by one while iterating, so filtering or counting never builds the full event list.
+ * - Winner and rounds come from the index if there is one, otherwise from a skip scan.
+ */
+public final class GameView {
+
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+
+    private final ByteBuffer record;
+    private final long offset;
+    private int winnerSeat;
+    private int rounds;
+
+    // Header, decoded lazily
+    private boolean headerRead;
+    private long gameId;
+    private long seed;
+    private int targetScore;
+    private List<String> playerNames;
+    private int bodyStart;
+
+    GameView(ByteBuffer record, long offset) {
+        this(record, offset, UNKNOWN, UNKNOWN);
+    }
+
+    GameView(ByteBuffer record, long offset, int winnerSeat, int rounds) {
+        this.record = record;
+        this.offset = offset;
+        this.winnerSeat = winnerSeat;
+        this.rounds = rounds;
+    }
+
+    /** Position of the record in the log file. */
+    public long offset() {
+        return offset;
+    }
+
+    /** Size of the record in bytes. */
+    public int length() {
+        return record.limit();
+    }
+
+    public long gameId() {
+        readHeader();
+        return gameId;
+    }
+
+    public long seed() {
+        readHeader();
+        return seed;
+    }
+
+    public int targetScore() {
+        readHeader();
+        return targetScore;
+    }
+
+    public List<String> playerNames() {
+        readHeader();
+        return playerNames;
+    }
+
+    /** Seat of the winner, -1 if the game ended without one. */
+    public int winnerSeat() {
+        if (winnerSeat == UNKNOWN) {
+            readEnd();
+        }
+        return winnerSeat;
+    }
+
+    public Optional<String> winnerName() {
+        int seat = winnerSeat();
+        return seat < 0 ? Optional.empty() : Optional.of(playerNames().get(seat));
+    }
+
+    public int rounds() {
+        if (rounds == UNKNOWN) {
+            readEnd();
+        }
+        return rounds;
+    }
+
+    /**
+     * Turns in game order, decoded while the stream is consumed.
+     */
+    public Stream<LoggedTurn> turns() {
+        readHeader();
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(new TurnIterator(body()), Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * All TurnEvents of the game, rebuilt with the given players (indexed by seat).
+     */
+    public Stream<TurnEvent> events(List<? extends Player> players) {
+        return turns().flatMap(turn -> turn.toTurnEvents(players).stream());
+    }
+
+    /** Fully decoded copy of the game. */
+    public LoggedGame toLoggedGame() {
+        List<LoggedTurn> turns = turns().toList();
+        return new LoggedGame(gameId(), seed(), targetScore(), playerNames(), turns, winnerSeat(), rounds());
+    }
+
+    /**
+     * Length of the record that starts at the given position, found by skipping over it.
+     */
+    static int recordLength(ByteBuffer data, int start) {
+        ByteBuffer scan = data.duplicate().position(start);
+        skipHeader(scan);
+        while (true) {
+            byte tag = scan.get();
+            if (tag == GameLogFormat.GAME_END) {
+                GameLogFormat.getVarInt(scan);
+                GameLogFormat.getVarInt(scan);
+                return scan.position() - start;
+            }
+            if (tag != GameLogFormat.ROUND_START) {
+                LoggedTurn.skip(scan, tag);
+            }
+        }
+    }
+
+    private void readHeader() {
+        if (headerRead) {
+            return;
+        }
+        ByteBuffer in = record.duplicate();
+        if (in.get() != GameLogFormat.GAME_START) {
+            throw new IllegalStateException("Record at offset " + offset + " is not a game");
+        }
+        gameId = GameLogFormat.getVarLong(in);
+        seed = in.getLong();
+        targetScore = GameLogFormat.getVarInt(in);
+        int playerCount = GameLogFormat.getVarInt(in);
+        List<String> names = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            byte[] name = new byte[GameLogFormat.getVarInt(in)];
+            in.get(name);
+            names.add(new String(name, StandardCharsets.UTF_8));
+        }
+        playerNames = List.copyOf(names);
+        bodyStart = in.position();
+        headerRead = true;
+    }
+
+    private static void skipHeader(ByteBuffer in) {
+        in.get();
+        GameLogFormat.getVarLong(in);
+        in.getLong();
+        GameLogFormat.getVarInt(in);
+        int playerCount = GameLogFormat.getVarInt(in);
+        for (int i = 0; i < playerCount; i++) {
+            int length = GameLogFormat.getVarInt(in);
+            in.position(in.position() + length);
+        }
+    }
+
+    // The GAME_END record closes the game: skip the turns up to it
+    private void readEnd() {
+        readHeader();
+        ByteBuffer in = body();
+        while (true) {
+            byte tag = in.get();
+            if (tag == GameLogFormat.GAME_END) {
+                winnerSeat = GameLogFormat.getVarInt(in) - 1;
+                rounds = GameLogFormat.getVarInt(in);
+                return;
+            }
+            if (tag != GameLogFormat.ROUND_START) {
+                LoggedTurn.skip(in, tag);
+            }
+        }
+    }
+
+    private ByteBuffer body() {
+        return record.duplicate().position(bodyStart);
+    }
+
+    /** Decodes one turn per next(); ROUND_START records only advance the round counter. */
+    private static final class TurnIterator implements Iterator<LoggedTurn> {
+        private final ByteBuffer in;
+        private int round;
+        private byte nextTag;
+
+        TurnIterator(ByteBuffer in) {
+            this.in = in;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextTag != GameLogFormat.GAME_END;
+        }
+
+        @Override
+        public LoggedTurn next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            LoggedTurn turn = LoggedTurn.read(in, nextTag, round);
+            advance();
+            return turn;
+        }
+
+        private void advance() {
+            byte tag = in.get();
+            while (tag == GameLogFormat.ROUND_START) {
+                round++;
+                tag = in.get();
+            }
+            nextTag = tag;
+        }
+    }
+}
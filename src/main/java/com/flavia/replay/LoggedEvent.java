@@ -0,0 +1,119 @@
+package com.flavia.replay;
+
+import com.flavia.domain.model.CardCodec;
+import com.flavia.engine.Seats;
+import com.flavia.engine.TurnEvent;
+import com.flavia.player.Player;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * One TurnEvent as stored in the log: players as seats, cards as CardCodec codes.
+ * Fields that the kind does not use are -1.
+ */
+public record LoggedEvent(Kind kind, int seat, int cardCode, int targetSeat) {
+
+    /** Event kinds; the ordinal is the byte written to the log. */
+    public enum Kind {
+        CARD_DRAWN,
+        PLAYER_STAYED,
+        PLAYER_BUSTED,
+        PLAYER_FROZEN,
+        SECOND_CHANCE_CONSUMED,
+        ACTION_CARD_PLAYED,
+        DECK_EMPTY
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+
+    /**
+     * Rebuilds the TurnEvent with the given players (indexed by seat).
+     */
+    public TurnEvent toTurnEvent(List<? extends Player> players) {
+        return switch (kind) {
+            case CARD_DRAWN -> new TurnEvent.CardDrawn(players.get(seat), CardCodec.decode(cardCode));
+            case PLAYER_STAYED -> new TurnEvent.PlayerStayed(players.get(seat));
+            case PLAYER_BUSTED -> new TurnEvent.PlayerBusted(players.get(seat), CardCodec.decode(cardCode));
+            case PLAYER_FROZEN -> new TurnEvent.PlayerFrozen(players.get(seat));
+            case SECOND_CHANCE_CONSUMED ->
+                    new TurnEvent.SecondChanceConsumed(players.get(seat), CardCodec.decode(cardCode));
+            case ACTION_CARD_PLAYED -> new TurnEvent.ActionCardPlayed(
+                    players.get(seat), CardCodec.decode(cardCode), players.get(targetSeat));
+            case DECK_EMPTY -> new TurnEvent.DeckEmpty();
+        };
+    }
+
+    /**
+     * Encodes a TurnEvent without creating a LoggedEvent.
+     */
+    static void write(ByteBuffer buffer, TurnEvent event, List<Player> players) {
+        switch (event) {
+            case TurnEvent.CardDrawn(Player player, var card) -> {
+                buffer.put((byte) Kind.CARD_DRAWN.ordinal());
+                GameLogFormat.putVarInt(buffer, Seats.seatOf(players, player));
+                buffer.put(CardCodec.encode(card));
+            }
+            case TurnEvent.PlayerStayed(Player player) -> {
+                buffer.put((byte) Kind.PLAYER_STAYED.ordinal());
+                GameLogFormat.putVarInt(buffer, Seats.seatOf(players, player));
+            }
+            case TurnEvent.PlayerBusted(Player player, var card) -> {
+                buffer.put((byte) Kind.PLAYER_BUSTED.ordinal());
+                GameLogFormat.putVarInt(buffer, Seats.seatOf(players, player));
+                buffer.put(CardCodec.encode(card));
+            }
+            case TurnEvent.PlayerFrozen(Player target) -> {
+                buffer.put((byte) Kind.PLAYER_FROZEN.ordinal());
+                GameLogFormat.putVarInt(buffer, Seats.seatOf(players, target));
+            }
+            case TurnEvent.SecondChanceConsumed(Player player, var card) -> {
+                buffer.put((byte) Kind.SECOND_CHANCE_CONSUMED.ordinal());
+                GameLogFormat.putVarInt(buffer, Seats.seatOf(players, player));
+                buffer.put(CardCodec.encode(card));
+            }
+            case TurnEvent.ActionCardPlayed(Player actor, var card, Player target) -> {
+                buffer.put((byte) Kind.ACTION_CARD_PLAYED.ordinal());
+                GameLogFormat.putVarInt(buffer, Seats.seatOf(players, actor));
+                buffer.put(CardCodec.encode(card));
+                GameLogFormat.putVarInt(buffer, Seats.seatOf(players, target));
+            }
+            case TurnEvent.DeckEmpty() -> buffer.put((byte) Kind.DECK_EMPTY.ordinal());
+        }
+    }
+
+    static LoggedEvent read(ByteBuffer buffer) {
+        Kind kind = KINDS[buffer.get()];
+        return switch (kind) {
+            case CARD_DRAWN, PLAYER_BUSTED, SECOND_CHANCE_CONSUMED ->
+                    new LoggedEvent(kind, GameLogFormat.getVarInt(buffer), buffer.get(), -1);
+            case PLAYER_STAYED, PLAYER_FROZEN -> new LoggedEvent(kind, GameLogFormat.getVarInt(buffer), -1, -1);
+            case ACTION_CARD_PLAYED -> {
+                int actor = GameLogFormat.getVarInt(buffer);
+                int code = buffer.get();
+                yield new LoggedEvent(kind, actor, code, GameLogFormat.getVarInt(buffer));
+            }
+            case DECK_EMPTY -> new LoggedEvent(kind, -1, -1, -1);
+        };
+    }
+
+    /** Moves the buffer past one encoded event without decoding it. */
+    static void skip(ByteBuffer buffer) {
+        Kind kind = KINDS[buffer.get()];
+        switch (kind) {
+            case CARD_DRAWN, PLAYER_BUSTED, SECOND_CHANCE_CONSUMED -> {
+                GameLogFormat.getVarInt(buffer);
+                buffer.get();
+            }
+            case PLAYER_STAYED, PLAYER_FROZEN -> GameLogFormat.getVarInt(buffer);
+            case ACTION_CARD_PLAYED -> {
+                GameLogFormat.getVarInt(buffer);
+                buffer.get();
+                GameLogFormat.getVarInt(buffer);
+            }
+            case DECK_EMPTY -> {
+                // no fields
+            }
+        }
+    }
+}
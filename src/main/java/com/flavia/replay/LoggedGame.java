@@ -0,0 +1,24 @@
+package com.flavia.replay;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * One game read back from the log.
+ *
+ * winnerSeat is -1 if the game ended without a winner (round limit).
+ */
+public record LoggedGame(
+        long gameId,
+        long seed,
+        int targetScore,
+        List<String> playerNames,
+        List<LoggedTurn> turns,
+        int winnerSeat,
+        int rounds
+) {
+
+    public Optional<String> winnerName() {
+        return winnerSeat < 0 ? Optional.empty() : Optional.of(playerNames.get(winnerSeat));
+    }
+}
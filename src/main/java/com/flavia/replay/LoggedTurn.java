@@ -0,0 +1,60 @@
+package com.flavia.replay;
+
+import com.flavia.engine.TurnEvent;
+import com.flavia.player.Player;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Events of one turn, as published to GameEventListener.onTurn. Rounds count from 1. */
+public record LoggedTurn(int round, int seat, List<LoggedEvent> events) {
+
+    public List<TurnEvent> toTurnEvents(List<? extends Player> players) {
+        return events.stream().map(e -> e.toTurnEvent(players)).toList();
+    }
+
+    /**
+     * Decodes the turn record after its tag (TURN, TURN_DRAW or TURN_STAY).
+     */
+    static LoggedTurn read(ByteBuffer buffer, byte tag, int round) {
+        int seat = GameLogFormat.getVarInt(buffer);
+        return switch (tag) {
+            case GameLogFormat.TURN_DRAW -> new LoggedTurn(round, seat,
+                    List.of(new LoggedEvent(LoggedEvent.Kind.CARD_DRAWN, seat, buffer.get(), -1)));
+            case GameLogFormat.TURN_STAY -> new LoggedTurn(round, seat,
+                    List.of(new LoggedEvent(LoggedEvent.Kind.PLAYER_STAYED, seat, -1, -1)));
+            case GameLogFormat.TURN -> {
+                int eventCount = GameLogFormat.getVarInt(buffer);
+                List<LoggedEvent> events = new ArrayList<>(eventCount);
+                for (int i = 0; i < eventCount; i++) {
+                    events.add(LoggedEvent.read(buffer));
+                }
+                yield new LoggedTurn(round, seat, List.copyOf(events));
+            }
+            default -> throw new IllegalArgumentException("Not a turn record: " + tag);
+        };
+    }
+
+    /** Moves the buffer past the turn record after its tag without decoding it. */
+    static void skip(ByteBuffer buffer, byte tag) {
+        GameLogFormat.getVarInt(buffer);
+        switch (tag) {
+            case GameLogFormat.TURN_DRAW -> buffer.get();
+            case GameLogFormat.TURN_STAY -> {
+                // seat only
+            }
+            case GameLogFormat.TURN -> {
+                int eventCount = GameLogFormat.getVarInt(buffer);
+                for (int i = 0; i < eventCount; i++) {
+                    LoggedEvent.skip(buffer);
+                }
+            }
+            default -> throw new IllegalArgumentException("Not a turn record: " + tag);
+        }
+    }
+
+    static boolean isTurnTag(byte tag) {
+        return tag == GameLogFormat.TURN || tag == GameLogFormat.TURN_DRAW || tag == GameLogFormat.TURN_STAY;
+    }
+}
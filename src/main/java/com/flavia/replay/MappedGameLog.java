@@ -0,0 +1,156 @@
+package com.flavia.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Random access to a game log through memory-mapped files.
+ *
+ * Decision:
+ * - Log and index are mapped read-only with FileChannel.map; games are handed out as
+ *   GameView slices of the mapping, so seeking and streaming copy no bytes.
+ * - With an index, game #n is one read of a fixed-size entry, and filtering by winner
+ *   only reads index entries and player names. Without an index, games are found by
+ *   skipping over the records from the start.
+ * - A single mapping is limited to 2 GB per file (about 4 million games).
+ */
+public class MappedGameLog implements AutoCloseable {
+
+    private final ByteBuffer data;
+    private final ByteBuffer index;
+    private final int gameCount;
+
+    private MappedGameLog(ByteBuffer data, ByteBuffer index) {
+        this.data = data;
+        this.index = index;
+        this.gameCount = index == null ? -1 : (index.limit() - GameLogIndex.HEADER_SIZE) / GameLogIndex.ENTRY_SIZE;
+    }
+
+    /**
+     * Maps a log without index: only sequential access through games().
+     */
+    public static MappedGameLog open(Path log) throws IOException {
+        ByteBuffer data = map(log);
+        GameLogReader.checkHeader(data);
+        return new MappedGameLog(data, null);
+    }
+
+    public static MappedGameLog open(Path log, Path index) throws IOException {
+        ByteBuffer data = map(log);
+        GameLogReader.checkHeader(data);
+        ByteBuffer mappedIndex = map(index);
+        GameLogIndex.checkHeader(mappedIndex);
+        return new MappedGameLog(data, mappedIndex);
+    }
+
+    public boolean hasIndex() {
+        return index != null;
+    }
+
+    /**
+     * Number of games in the index.
+     */
+    public int gameCount() {
+        requireIndex();
+        return gameCount;
+    }
+
+    /**
+     * The n-th game of the log (0-based, in log order).
+     */
+    public GameView game(int n) {
+        requireIndex();
+        if (n < 0 || n >= gameCount) {
+            throw new IndexOutOfBoundsException("Game " + n + " of " + gameCount);
+        }
+        int entry = GameLogIndex.HEADER_SIZE + n * GameLogIndex.ENTRY_SIZE;
+        long offset = index.getLong(entry + 8);
+        int length = index.getInt(entry + 16);
+        int winnerSeat = index.getShort(entry + 20);
+        int rounds = Short.toUnsignedInt(index.getShort(entry + 22));
+        return new GameView(data.slice((int) offset, length), offset, winnerSeat, rounds);
+    }
+
+    /**
+     * First game with the given id. Scans the index entries, not the log.
+     */
+    public Optional<GameView> findGame(long gameId) {
+        requireIndex();
+        for (int n = 0; n < gameCount; n++) {
+            if (index.getLong(GameLogIndex.HEADER_SIZE + n * GameLogIndex.ENTRY_SIZE) == gameId) {
+                return Optional.of(game(n));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * All games in log order; uses the index if there is one.
+     */
+    public Stream<GameView> games() {
+        if (index != null) {
+            return IntStream.range(0, gameCount).mapToObj(this::game);
+        }
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(new SequentialIterator(), Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    public Stream<GameView> gamesWonBy(String playerName) {
+        return games().filter(game -> game.winnerSeat() >= 0
+                && game.playerNames().get(game.winnerSeat()).equals(playerName));
+    }
+
+    @Override
+    public void close() {
+        // Mappings stay valid until garbage collected; the channels were closed after mapping
+    }
+
+    private void requireIndex() {
+        if (index == null) {
+            throw new IllegalStateException("Random access needs an index (see GameLogIndex.rebuild)");
+        }
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map: " + file + " (" + size + " bytes)");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /** Finds record boundaries by skipping over each record. */
+    private final class SequentialIterator implements Iterator<GameView> {
+        private int position = GameLogFormat.HEADER_SIZE;
+
+        @Override
+        public boolean hasNext() {
+            return position < data.limit();
+        }
+
+        @Override
+        public GameView next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int length = GameView.recordLength(data, position);
+            GameView view = new GameView(data.slice(position, length), position);
+            position += length;
+            return view;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.flavia.replay;
+
+import com.flavia.domain.enums.PlayerAction;
+import com.flavia.domain.model.TurnInfo;
+import com.flavia.domain.model.TurnView;
+import com.flavia.player.Player;
+import com.flavia.player.TargetInfo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Plays back the decisions and target choices of one logged player.
+ */
+class ReplayPlayer implements Player {
+
+    private final String name;
+    private final Deque<PlayerAction> decisions = new ArrayDeque<>();
+    private final Deque<String> targets = new ArrayDeque<>();
+
+    ReplayPlayer(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Derives every player's script from the logged turns.
+     * - A turn whose first event is the player's own PlayerStayed was a STAY, any other turn a HIT.
+     * - Flip Three targets come from ActionCardPlayed. Freeze targets come from PlayerFrozen,
+     *   chosen by whoever drew the Freeze just before; a self-freeze means nobody was asked.
+     */
+    static List<ReplayPlayer> fromLog(LoggedGame game) {
+        List<ReplayPlayer> players = new ArrayList<>();
+        for (String playerName : game.playerNames()) {
+            players.add(new ReplayPlayer(playerName));
+        }
+        for (LoggedTurn turn : game.turns()) {
+            List<LoggedEvent> events = turn.events();
+            LoggedEvent first = events.getFirst();
+            boolean stayed = first.kind() == LoggedEvent.Kind.PLAYER_STAYED && first.seat() == turn.seat();
+            players.get(turn.seat()).decisions.add(stayed ? PlayerAction.STAY : PlayerAction.HIT);
+
+            int lastDrawnSeat = -1;
+            for (LoggedEvent event : events) {
+                switch (event.kind()) {
+                    case CARD_DRAWN -> lastDrawnSeat = event.seat();
+                    case ACTION_CARD_PLAYED ->
+                            players.get(event.seat()).targets.add(game.playerNames().get(event.targetSeat()));
+                    case PLAYER_FROZEN -> {
+                        if (event.seat() != lastDrawnSeat) {
+                            players.get(lastDrawnSeat).targets.add(game.playerNames().get(event.seat()));
+                        }
+                    }
+                    default -> {
+                        // no decision involved
+                    }
+                }
+            }
+        }
+        return players;
+    }
+
+    @Override
+    public PlayerAction decide(TurnInfo turnInfo) {
+        return decideLive(turnInfo);
+    }
+
+    // Reads nothing from the view, so no snapshot is needed
+    @Override
+    public PlayerAction decideLive(TurnView view) {
+        // An exhausted script means the replay diverged; staying ends it quickly
+        return decisions.isEmpty() ? PlayerAction.STAY : decisions.poll();
+    }
+
+    @Override
+    public String chooseTarget(TargetInfo info) {
+        return targets.isEmpty() ? Player.super.chooseTarget(info) : targets.poll();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,84 @@
+package com.flavia.rules;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.CardCodec;
+import com.flavia.domain.model.Deck;
+import com.flavia.domain.model.Hand;
+
+import java.util.List;
+
+/**
+ * Same result as DefaultProbabilityCalculator, but reads the per-value counts that
+ * Deck keeps up to date instead of walking the draw pile.
+ *
+ * Decision:
+ * - The hand is reduced to a 13-bit mask of its number values (read directly from a Hand).
+ * - Bust risk = sum of the draw pile counts of the set bits: at most 13 array reads, no allocation.
+ */
+public class HistogramProbabilityCalculator implements SuccessProbabilityCalculator {
+
+    private static final int SECOND_CHANCE_FLAG = -1;
+
+    @Override
+    public double calculateSuccessProbability(List<Card> playerHand, Deck deck) {
+        int remaining = deck.drawPileSize();
+        if (remaining == 0) {
+            return 0.0;
+        }
+
+        int mask = numberMask(playerHand);
+        // Second Chance guarantees the next draw won't bust.
+        if (mask == SECOND_CHANCE_FLAG) {
+            return 1.0;
+        }
+
+        int badCardsCount = 0;
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            badCardsCount += deck.drawPileCount(Integer.numberOfTrailingZeros(bits));
+        }
+        return 1.0 - (double) badCardsCount / remaining;
+    }
+
+    /**
+     * Fallback for callers that only have a card list: one pass over the list.
+     */
+    @Override
+    public double calculateSuccessProbability(List<Card> playerHand, List<Card> remainingDeck) {
+        if (remainingDeck == null || remainingDeck.isEmpty()) {
+            return 0.0;
+        }
+
+        int mask = numberMask(playerHand);
+        if (mask == SECOND_CHANCE_FLAG) {
+            return 1.0;
+        }
+
+        int badCardsCount = 0;
+        for (Card c : remainingDeck) {
+            if (c.type() == CardType.NUMBER && (mask & (1 << c.value())) != 0) {
+                badCardsCount++;
+            }
+        }
+        return 1.0 - (double) badCardsCount / remainingDeck.size();
+    }
+
+    /**
+     * @return bit v set for every number value v in the hand, or SECOND_CHANCE_FLAG
+     */
+    private static int numberMask(List<Card> hand) {
+        if (hand instanceof Hand tracked) {
+            return tracked.hasSecondChance() ? SECOND_CHANCE_FLAG : tracked.numberMask();
+        }
+        int mask = 0;
+        for (Card c : hand) {
+            if (c.type() == CardType.SECOND_CHANCE) {
+                return SECOND_CHANCE_FLAG;
+            }
+            if (c.type() == CardType.NUMBER && c.value() <= CardCodec.MAX_NUMBER_VALUE) {
+                mask |= 1 << c.value();
+            }
+        }
+        return mask;
+    }
+}
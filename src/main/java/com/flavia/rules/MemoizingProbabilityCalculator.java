@@ -0,0 +1,114 @@
+package com.flavia.rules;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.Deck;
+import com.flavia.domain.model.Hand;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the results of another calculator per (deck, deck version, hand).
+ *
+ * Usage: EngineOptions.defaults().withProbabilityCalculator(
+ *            new MemoizingProbabilityCalculator(new HistogramProbabilityCalculator()))
+ *
+ * Decision:
+ * - The hand is reduced to its number mask plus a Second Chance bit. The wrapped
+ *   calculator must depend on nothing else of the hand (true for both calculators here).
+ * - Deck.version() tells whether the piles changed since the cached result. The deck
+ *   itself is part of the key, so one instance can serve many games.
+ * - Direct-mapped table of immutable entries: a collision overwrites, a lookup never
+ *   blocks. Threads may race on a slot; a lost write only costs a later miss.
+ * - Only the Deck overload is cached. Plain card lists have no version.
+ * - Not the engine default: in the engine's own turn loop almost every HIT changes the
+ *   version before the next query (hit rate about 0.1% with 6 threshold bots). It pays
+ *   off for callers that query one deck state repeatedly, e.g. views or analysis tools.
+ *   hits()/misses() show whether it does for a given setup.
+ */
+public class MemoizingProbabilityCalculator implements SuccessProbabilityCalculator {
+
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    private static final int SECOND_CHANCE_BIT = 1 << 13;
+
+    private final SuccessProbabilityCalculator delegate;
+    private final Entry[] entries;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public MemoizingProbabilityCalculator(SuccessProbabilityCalculator delegate) {
+        this(delegate, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param cacheSize cache entries, rounded up to a power of two
+     */
+    public MemoizingProbabilityCalculator(SuccessProbabilityCalculator delegate, int cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("cacheSize must be positive");
+        }
+        int capacity = cacheSize == 1 ? 1 : Integer.highestOneBit(cacheSize - 1) << 1;
+        this.delegate = delegate;
+        this.entries = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public double calculateSuccessProbability(List<Card> playerHand, List<Card> remainingDeck) {
+        return delegate.calculateSuccessProbability(playerHand, remainingDeck);
+    }
+
+    @Override
+    public double calculateSuccessProbability(List<Card> playerHand, Deck deck) {
+        int handKey = handKey(playerHand);
+        long version = deck.version();
+        int slot = slot(deck, version, handKey);
+
+        Entry entry = entries[slot];
+        if (entry != null && entry.deck == deck && entry.version == version && entry.handKey == handKey) {
+            hits.increment();
+            return entry.probability;
+        }
+        misses.increment();
+        double probability = delegate.calculateSuccessProbability(playerHand, deck);
+        entries[slot] = new Entry(deck, version, handKey, probability);
+        return probability;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public double hitRate() {
+        long hits = hits();
+        long total = hits + misses();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private int slot(Deck deck, long version, int handKey) {
+        long h = System.identityHashCode(deck) * 0x9E3779B97F4A7C15L + version * 0xC2B2AE3D27D4EB4FL + handKey;
+        return (int) (h ^ (h >>> 29)) & mask;
+    }
+
+    private static int handKey(List<Card> hand) {
+        if (hand instanceof Hand tracked) {
+            return tracked.numberMask() | (tracked.hasSecondChance() ? SECOND_CHANCE_BIT : 0);
+        }
+        int key = Hand.numberMaskOf(hand);
+        for (Card card : hand) {
+            if (card.type() == CardType.SECOND_CHANCE) {
+                return key | SECOND_CHANCE_BIT;
+            }
+        }
+        return key;
+    }
+
+    private record Entry(Deck deck, long version, int handKey, double probability) {}
+}
@@ -1,8 +1,15 @@
 package com.flavia.rules;
 
 import com.flavia.domain.model.Card;
+import com.flavia.domain.model.Deck;
+
 import java.util.List;
 
 public interface SuccessProbabilityCalculator {
     double calculateSuccessProbability(List<Card> playerHand, List<Card> remainingDeck);
+
+    // Engine entry point; implementations may use the deck's histograms instead of its card list
+    default double calculateSuccessProbability(List<Card> playerHand, Deck deck) {
+        return calculateSuccessProbability(playerHand, deck.viewDrawPile());
+    }
 }
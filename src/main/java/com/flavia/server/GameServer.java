@@ -0,0 +1,153 @@
+package com.flavia.server;
+
+import com.flavia.domain.model.Deck;
+import com.flavia.engine.EngineOptions;
+import com.flavia.engine.GameEngine;
+import com.flavia.engine.GameEventListener;
+import com.flavia.engine.TurnEvent;
+import com.flavia.metrics.LatencyHistogram;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import com.flavia.simulation.GameSimulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hosts many independent tables in one JVM, each on its own virtual thread.
+ *
+ * Seats are any Player; remote or interactive seats use QueuePlayer, whose client
+ * answers through queues (e.g. InProcessClient, or a socket handler).
+ *
+ * Decision:
+ * - One engine, deck and lineup per table; tables share nothing but the counters.
+ * - A table blocks while it waits for a QueuePlayer; on a virtual thread that only
+ *   parks the table, so thousands of waiting tables need no thread pool sizing.
+ * - EngineOptions apply to every table, e.g. a DecisionDeadline against hung clients.
+ *   Low-allocation mode is safe: QueuePlayer decides on TurnInfo snapshots.
+ * - close() waits for all open tables to finish.
+ */
+public class GameServer implements AutoCloseable {
+
+    private final EngineOptions options;
+    private final int targetScore;
+    private final int maxRounds;
+    private final ExecutorService tables = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicLong nextTableId = new AtomicLong();
+    private final LongAdder activeTables = new LongAdder();
+    private final LongAdder turns = new LongAdder();
+    private final LatencyHistogram decisionToEvent = new LatencyHistogram();
+    private final long startNanos = System.nanoTime();
+
+    public GameServer() {
+        this(EngineOptions.defaults().withLowAllocation(true), 200, GameSimulator.DEFAULT_MAX_ROUNDS);
+    }
+
+    public GameServer(EngineOptions options, int targetScore, int maxRounds) {
+        this.options = options;
+        this.targetScore = targetScore;
+        this.maxRounds = maxRounds;
+    }
+
+    /**
+     * Starts a table and returns at once. QueuePlayer seats are closed when the table ends.
+     */
+    public CompletableFuture<TableResult> openTable(List<Player> players, long seed) {
+        long tableId = nextTableId.incrementAndGet();
+        CompletableFuture<TableResult> result = new CompletableFuture<>();
+        activeTables.increment();
+        tables.execute(() -> {
+            TableResult table = null;
+            Throwable failure = null;
+            try {
+                table = play(tableId, List.copyOf(players), seed);
+            } catch (Throwable t) {
+                failure = t;
+            }
+            // Before completing, so stats() after join() no longer counts the table
+            activeTables.decrement();
+            for (Player player : players) {
+                if (player instanceof QueuePlayer queuePlayer) {
+                    queuePlayer.close();
+                }
+            }
+            if (failure == null) {
+                result.complete(table);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        });
+        return result;
+    }
+
+    public ServerStats stats() {
+        return new ServerStats(nextTableId.get(), activeTables.sum(), turns.sum(),
+                System.nanoTime() - startNanos, decisionToEvent.snapshot());
+    }
+
+    @Override
+    public void close() {
+        tables.close();
+    }
+
+    private TableResult play(long tableId, List<Player> players, long seed) {
+        TableListener listener = new TableListener();
+        GameEngine engine = new GameEngine(players, new Deck(seed), targetScore, listener, options);
+
+        Optional<Player> winner = Optional.empty();
+        int rounds = 0;
+        while (winner.isEmpty() && rounds < maxRounds) {
+            winner = engine.playRound();
+            rounds++;
+        }
+        return new TableResult(tableId, winner.map(Player::getName).orElse(null), rounds, listener.turns);
+    }
+
+    /** Counts turns and measures decision-to-event latency of one table. */
+    private final class TableListener implements GameEventListener {
+        long turns;
+
+        @Override
+        public void onTurn(Player player, List<TurnEvent> events) {
+            turns++;
+            GameServer.this.turns.increment();
+            if (player instanceof QueuePlayer queuePlayer) {
+                long answeredAt = queuePlayer.takeLastAnswerNanos();
+                if (answeredAt != 0) {
+                    decisionToEvent.record(System.nanoTime() - answeredAt);
+                }
+            }
+        }
+    }
+
+    /**
+     * Usage: GameServer [tables]
+     * Load run: every table has three QueuePlayers, each answered by an in-process client thread.
+     */
+    public static void main(String[] args) {
+        int tableCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+
+        List<CompletableFuture<TableResult>> results = new ArrayList<>();
+        try (GameServer server = new GameServer();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < tableCount; t++) {
+                List<Player> seats = new ArrayList<>();
+                for (int s = 0; s < 3; s++) {
+                    QueuePlayer seat = new QueuePlayer("T" + t + "-P" + s);
+                    clients.execute(new InProcessClient(seat, new SimpleBotPlayer(seat.getName(), 10 + 5 * s, false)));
+                    seats.add(seat);
+                }
+                results.add(server.openTable(seats, t));
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+            System.out.print(server.stats().report());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.flavia.server;
+
+import com.flavia.player.Player;
+
+/**
+ * Client in the same JVM: answers the requests of a QueuePlayer with another
+ * Player's decisions until the table is closed. Meant for tests and load runs.
+ */
+public class InProcessClient implements Runnable {
+
+    private final QueuePlayer seat;
+    private final Player strategy;
+
+    public InProcessClient(QueuePlayer seat, Player strategy) {
+        this.seat = seat;
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                PlayerRequest request = seat.nextRequest();
+                switch (request) {
+                    case PlayerRequest.Decide decide -> seat.answer(decide, strategy.decide(decide.info()));
+                    case PlayerRequest.ChooseTarget choose -> seat.answer(choose, strategy.chooseTarget(choose.info()));
+                    case PlayerRequest.Closed closed -> {
+                        return;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
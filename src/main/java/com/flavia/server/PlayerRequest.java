@@ -0,0 +1,21 @@
+package com.flavia.server;
+
+import com.flavia.domain.model.TurnInfo;
+import com.flavia.player.TargetInfo;
+
+/**
+ * What a QueuePlayer asks its client. The id ties the answer to the request.
+ */
+public sealed interface PlayerRequest {
+
+    long id();
+
+    /** Answer with QueuePlayer.answer(Decide, PlayerAction). The info is an immutable snapshot. */
+    record Decide(long id, TurnInfo info) implements PlayerRequest {}
+
+    /** Answer with QueuePlayer.answer(ChooseTarget, String). */
+    record ChooseTarget(long id, TargetInfo info) implements PlayerRequest {}
+
+    /** The table is over; no more requests follow. */
+    record Closed(long id) implements PlayerRequest {}
+}
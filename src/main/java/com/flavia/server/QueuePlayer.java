@@ -0,0 +1,120 @@
+package com.flavia.server;
+
+import com.flavia.domain.enums.PlayerAction;
+import com.flavia.domain.model.TurnInfo;
+import com.flavia.player.Player;
+import com.flavia.player.TargetInfo;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Player whose decisions come from a client through queues instead of a Scanner.
+ *
+ * The engine side calls decide/chooseTarget, which post a PlayerRequest and block
+ * until the client answers. The client side polls nextRequest() and calls answer().
+ *
+ * Decision:
+ * - Blocking is fine: tables run on virtual threads, so a waiting player parks
+ *   its table without holding an OS thread.
+ * - Answers carry the request id. An answer to a request that already timed out
+ *   (see DecisionDeadline) is dropped instead of being taken for the next decision.
+ * - If the waiting thread is interrupted, the player stays / takes the first target,
+ *   like the defaults of DecisionDeadline.
+ */
+public class QueuePlayer implements Player {
+
+    private final String name;
+    private final BlockingQueue<PlayerRequest> requests = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Answer> answers = new LinkedBlockingQueue<>();
+    private final AtomicLong nextId = new AtomicLong();
+    // nanoTime of the last answer taken by the engine, 0 if already reported
+    private volatile long lastAnswerNanos;
+
+    public QueuePlayer(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public PlayerAction decide(TurnInfo turnInfo) {
+        PlayerRequest.Decide request = new PlayerRequest.Decide(nextId.incrementAndGet(), turnInfo.snapshot());
+        Object answer = ask(request);
+        return answer == null ? PlayerAction.STAY : (PlayerAction) answer;
+    }
+
+    @Override
+    public String chooseTarget(TargetInfo info) {
+        PlayerRequest.ChooseTarget request = new PlayerRequest.ChooseTarget(nextId.incrementAndGet(), info);
+        Object answer = ask(request);
+        return answer == null ? info.eligibleTargetNames().getFirst() : (String) answer;
+    }
+
+    // --- Client side ---
+
+    /**
+     * Waits for the next request of the table.
+     */
+    public PlayerRequest nextRequest() throws InterruptedException {
+        return requests.take();
+    }
+
+    /**
+     * @return the next request, or null if none arrived within the timeout
+     */
+    public PlayerRequest pollRequest(long timeout, TimeUnit unit) throws InterruptedException {
+        return requests.poll(timeout, unit);
+    }
+
+    public void answer(PlayerRequest.Decide request, PlayerAction action) {
+        answers.add(new Answer(request.id(), action, System.nanoTime()));
+    }
+
+    public void answer(PlayerRequest.ChooseTarget request, String targetName) {
+        answers.add(new Answer(request.id(), targetName, System.nanoTime()));
+    }
+
+    // --- Server side ---
+
+    /**
+     * Tells the client that the table is over.
+     */
+    void close() {
+        requests.add(new PlayerRequest.Closed(nextId.incrementAndGet()));
+    }
+
+    /**
+     * Time of the answer behind the latest decision, once; 0 if there is none.
+     */
+    long takeLastAnswerNanos() {
+        long nanos = lastAnswerNanos;
+        lastAnswerNanos = 0;
+        return nanos;
+    }
+
+    // null if interrupted
+    private Object ask(PlayerRequest request) {
+        requests.add(request);
+        try {
+            while (true) {
+                Answer answer = answers.take();
+                if (answer.requestId() == request.id()) {
+                    lastAnswerNanos = answer.nanos();
+                    return answer.value();
+                }
+                // Late answer to an earlier, timed-out request
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private record Answer(long requestId, Object value, long nanos) {}
+}
@@ -0,0 +1,32 @@
+package com.flavia.server;
+
+import com.flavia.metrics.HistogramSnapshot;
+
+/**
+ * Load figures of a GameServer at one point in time.
+ *
+ * decisionToEvent: time from a client's answer until the resulting turn reached
+ * the table's listener. Only QueuePlayer seats contribute.
+ */
+public record ServerStats(
+        long tablesOpened,
+        long activeTables,
+        long turns,
+        long elapsedNanos,
+        HistogramSnapshot decisionToEvent
+) {
+
+    public double turnsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : turns * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public long p99DecisionToEventNanos() {
+        return decisionToEvent.percentileNanos(99);
+    }
+
+    public String report() {
+        return String.format("Tables: %d (active: %d), turns: %d, %.0f turns/s, decision-to-event p50: %.1f us, p99: %.1f us%n",
+                tablesOpened, activeTables, turns, turnsPerSecond(),
+                decisionToEvent.percentileNanos(50) / 1_000.0, p99DecisionToEventNanos() / 1_000.0);
+    }
+}
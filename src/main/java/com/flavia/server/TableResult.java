@@ -0,0 +1,11 @@
+package com.flavia.server;
+
+/**
+ * Outcome of one table. winnerName is null if the round limit was reached first.
+ */
+public record TableResult(long tableId, String winnerName, int rounds, long turns) {
+
+    public boolean finished() {
+        return winnerName != null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.flavia.simulation;
+
+/**
+ * Outcome of one parameter value in a tuning run.
+ *
+ * eliminatedInRound is -1 for candidates that were never dropped.
+ */
+public record CandidateResult(
+        int parameter,
+        long games,
+        long wins,
+        int eliminatedInRound
+) {
+
+    public double winRate() {
+        return games == 0 ? 0.0 : (double) wins / games;
+    }
+
+    /** Standard error of the win rate (binomial, normal approximation). */
+    public double standardError() {
+        return standardError(wins, games);
+    }
+
+    public boolean survived() {
+        return eliminatedInRound < 0;
+    }
+
+    /** Rounds before elimination; Integer.MAX_VALUE for survivors. */
+    public int roundsSurvived() {
+        return survived() ? Integer.MAX_VALUE : eliminatedInRound;
+    }
+
+    static double standardError(long wins, long games) {
+        if (games == 0) {
+            return 0.0;
+        }
+        double p = (double) wins / games;
+        return Math.sqrt(p * (1 - p) / games);
+    }
+}
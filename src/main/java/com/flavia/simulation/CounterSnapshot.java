@@ -0,0 +1,61 @@
+package com.flavia.simulation;
+
+import com.flavia.simulation.StreamingStatistics.Counter;
+
+/**
+ * Counter values of one player or strategy at the time of a StreamingStatistics snapshot.
+ *
+ * Histograms are indexed by bucket, see StreamingStatistics.SCORE_BUCKETS and HAND_SIZE_BUCKETS.
+ */
+public record CounterSnapshot(
+        String key,
+        long[] counters,
+        long[] roundScoreHistogram,
+        long[] bustHandSizeHistogram
+) {
+
+    public CounterSnapshot {
+        counters = counters.clone();
+        roundScoreHistogram = roundScoreHistogram.clone();
+        bustHandSizeHistogram = bustHandSizeHistogram.clone();
+    }
+
+    @Override
+    public long[] counters() {
+        return counters.clone();
+    }
+
+    @Override
+    public long[] roundScoreHistogram() {
+        return roundScoreHistogram.clone();
+    }
+
+    @Override
+    public long[] bustHandSizeHistogram() {
+        return bustHandSizeHistogram.clone();
+    }
+
+    public long get(Counter counter) {
+        return counters[counter.ordinal()];
+    }
+
+    public double bustRate() {
+        long rounds = get(Counter.ROUNDS);
+        return rounds == 0 ? 0.0 : (double) get(Counter.BUSTS) / rounds;
+    }
+
+    /** Average points of the scored rounds that were not busted. */
+    public double averageRoundScore() {
+        long scored = 0;
+        for (long count : roundScoreHistogram) {
+            scored += count;
+        }
+        return scored == 0 ? 0.0 : (double) get(Counter.ROUND_POINTS) / scored;
+    }
+
+    /** Share of received Flip Threes that ended in a bust. */
+    public double flipThreeBustRate() {
+        long received = get(Counter.FLIP_THREES_RECEIVED);
+        return received == 0 ? 0.0 : (double) get(Counter.FLIP_THREE_BUSTS) / received;
+    }
+}
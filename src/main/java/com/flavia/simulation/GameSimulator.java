@@ -0,0 +1,149 @@
+package com.flavia.simulation;
+
+import com.flavia.domain.model.Deck;
+import com.flavia.engine.CompositeEventListener;
+import com.flavia.engine.EngineOptions;
+import com.flavia.engine.GameEngine;
+import com.flavia.engine.GameEventListener;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import com.flavia.replay.GameLogWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+
+/**
+ * Headless entry point: plays complete games without any console output.
+ *
+ * Decision:
+ * - Reuses GameEngine unchanged, only the console view is swapped for a statistics listener.
+ * - Every game gets a fresh engine and deck; players are reused, so they must be stateless.
+ * - Game n is dealt from gameSeed(seed, n): a run is reproducible from its seed alone.
+ * - Engines run in low-allocation mode: players that override decideLive must not keep
+ *   the view beyond the call.
+ */
+public class GameSimulator {
+
+    // Safety net for lineups that never score (e.g. bots that always stay)
+    public static final int DEFAULT_MAX_ROUNDS = 1_000;
+
+    private final List<Player> players;
+    private final LongFunction<Deck> deckFactory;
+    private final int targetScore;
+    private final int maxRounds;
+    private final long seed;
+
+    public GameSimulator(List<Player> players) {
+        this(players, new SplittableRandom().nextLong());
+    }
+
+    public GameSimulator(List<Player> players, long seed) {
+        this(players, Deck::new, 200, DEFAULT_MAX_ROUNDS, seed);
+    }
+
+    /**
+     * @param deckFactory creates the deck for one game from that game's seed
+     */
+    public GameSimulator(List<Player> players, LongFunction<Deck> deckFactory, int targetScore, int maxRounds, long seed) {
+        this.players = List.copyOf(players);
+        this.deckFactory = deckFactory;
+        this.targetScore = targetScore;
+        this.maxRounds = maxRounds;
+        this.seed = seed;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Derives the deck seed of one game from the run seed (SplitMix64 finalizer).
+     * Independent of thread scheduling, so game n can be replayed on its own.
+     */
+    public static long gameSeed(long runSeed, long gameIndex) {
+        long z = runSeed + (gameIndex + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public SimulationResult run(int games) {
+        long start = System.nanoTime();
+
+        SimulationStats stats = new SimulationStats(players.size());
+        for (int g = 0; g < games; g++) {
+            playGame(players, deckFactory.apply(gameSeed(seed, g)), targetScore, maxRounds, stats);
+        }
+
+        List<String> names = players.stream().map(Player::getName).toList();
+        return stats.toResult(names, System.nanoTime() - start);
+    }
+
+    /**
+     * Like run(games), but also appends every game to the log (game id = game index).
+     */
+    public SimulationResult run(int games, GameLogWriter log) {
+        long start = System.nanoTime();
+
+        SimulationStats stats = new SimulationStats(players.size());
+        for (int g = 0; g < games; g++) {
+            long gameSeed = gameSeed(seed, g);
+            log.beginGame(g, gameSeed, targetScore, players);
+            playGame(players, deckFactory.apply(gameSeed), targetScore, maxRounds, stats, log);
+            log.endGame();
+        }
+
+        List<String> names = players.stream().map(Player::getName).toList();
+        return stats.toResult(names, System.nanoTime() - start);
+    }
+
+    /**
+     * Plays one complete game and records it. Shared with TournamentRunner.
+     */
+    static void playGame(List<Player> players, Deck deck, int targetScore, int maxRounds, SimulationStats stats) {
+        playGame(players, deck, targetScore, maxRounds, stats, null);
+    }
+
+    /**
+     * @param extraListener receives all events in addition to the statistics, may be null
+     */
+    static void playGame(List<Player> players, Deck deck, int targetScore, int maxRounds, SimulationStats stats,
+                         GameEventListener extraListener) {
+        GameStatisticsListener game = new GameStatisticsListener(players);
+        GameEventListener listener = extraListener == null ? game : new CompositeEventListener(game, extraListener);
+        GameEngine engine = new GameEngine(players, deck, targetScore, listener,
+                EngineOptions.defaults().withLowAllocation(true));
+
+        Optional<Player> winner = Optional.empty();
+        while (winner.isEmpty() && game.rounds() < maxRounds) {
+            winner = engine.playRound();
+        }
+
+        stats.recordGame(game, winner.map(game::seatOf).orElse(-1));
+    }
+
+    /**
+     * Usage: GameSimulator [games] [threshold...]
+     * Each threshold adds one SimpleBotPlayer (at least 3 needed).
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        List<Player> players = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            int threshold = Integer.parseInt(args[i]);
+            players.add(new SimpleBotPlayer("Bot-" + threshold + "#" + i, threshold, false));
+        }
+        if (players.isEmpty()) {
+            players.add(new SimpleBotPlayer("Bot-10", 10, false));
+            players.add(new SimpleBotPlayer("Bot-15", 15, false));
+            players.add(new SimpleBotPlayer("Bot-20", 20, false));
+        }
+
+        SimulationResult result = new GameSimulator(players).run(games);
+        System.out.print(result.report());
+    }
+}
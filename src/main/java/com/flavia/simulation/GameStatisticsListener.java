@@ -0,0 +1,49 @@
+package com.flavia.simulation;
+
+import com.flavia.engine.GameEventListener;
+import com.flavia.engine.Seats;
+import com.flavia.engine.TurnEvent;
+import com.flavia.player.Player;
+
+import java.util.List;
+
+/**
+ * Counts rounds and busts of the game currently being simulated.
+ */
+class GameStatisticsListener implements GameEventListener {
+
+    private final List<Player> players;
+    private final long[] busts;
+    private int rounds;
+
+    GameStatisticsListener(List<Player> players) {
+        this.players = players;
+        this.busts = new long[players.size()];
+    }
+
+    @Override
+    public void onRoundStart() {
+        rounds++;
+    }
+
+    @Override
+    public void onTurn(Player turnPlayer, List<TurnEvent> events) {
+        for (TurnEvent event : events) {
+            if (event instanceof TurnEvent.PlayerBusted(Player player, var card)) {
+                busts[seatOf(player)]++;
+            }
+        }
+    }
+
+    int rounds() {
+        return rounds;
+    }
+
+    long busts(int seat) {
+        return busts[seat];
+    }
+
+    int seatOf(Player player) {
+        return Seats.seatOf(players, player);
+    }
+}
@@ -0,0 +1,17 @@
+package com.flavia.simulation;
+
+import com.flavia.player.Player;
+
+import java.util.List;
+
+/**
+ * Creates a fresh lineup for every simulated game.
+ *
+ * Decision:
+ * - Stateful bots must never be shared between games running on different threads.
+ * - Every call must return the same seats in the same order (names are taken from the first lineup).
+ */
+@FunctionalInterface
+public interface PlayerFactory {
+    List<Player> createPlayers();
+}
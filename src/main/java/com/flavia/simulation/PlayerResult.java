@@ -0,0 +1,19 @@
+package com.flavia.simulation;
+
+/** Aggregated outcome of one seat over a batch of simulated games. */
+public record PlayerResult(
+        String name,
+        long games,
+        long wins,
+        long roundsPlayed,
+        long busts
+) {
+
+    public double winRate() {
+        return games == 0 ? 0.0 : (double) wins / games;
+    }
+
+    public double bustRate() {
+        return roundsPlayed == 0 ? 0.0 : (double) busts / roundsPlayed;
+    }
+}
@@ -0,0 +1,38 @@
+package com.flavia.simulation;
+
+import java.util.List;
+
+/**
+ * Summary of a batch of simulated games.
+ *
+ * unfinishedGames counts games that hit the round limit without a winner.
+ */
+public record SimulationResult(
+        long games,
+        long unfinishedGames,
+        long totalRounds,
+        List<PlayerResult> players,
+        long elapsedNanos
+) {
+
+    public double averageRounds() {
+        return games == 0 ? 0.0 : (double) totalRounds / games;
+    }
+
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /** Human readable table, one line per seat. */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %d (unfinished: %d), avg rounds: %.2f, %.0f games/s%n",
+                games, unfinishedGames, averageRounds(), gamesPerSecond()));
+        sb.append(String.format("%-20s %10s %10s %10s%n", "Player", "Wins", "Win rate", "Bust rate"));
+        for (PlayerResult p : players) {
+            sb.append(String.format("%-20s %10d %9.2f%% %9.2f%%%n",
+                    p.name(), p.wins(), p.winRate() * 100, p.bustRate() * 100));
+        }
+        return sb.toString();
+    }
+}
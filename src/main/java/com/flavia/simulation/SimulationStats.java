@@ -0,0 +1,56 @@
+package com.flavia.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mutable per-seat counters for a batch of games.
+ *
+ * Not thread-safe on purpose: every worker owns one instance and
+ * results are combined with merge() afterwards, so no lock is needed.
+ */
+class SimulationStats {
+
+    private final long[] wins;
+    private final long[] busts;
+    private long games;
+    private long unfinishedGames;
+    private long totalRounds;
+
+    SimulationStats(int seats) {
+        this.wins = new long[seats];
+        this.busts = new long[seats];
+    }
+
+    void recordGame(GameStatisticsListener game, int winnerSeat) {
+        games++;
+        totalRounds += game.rounds();
+        if (winnerSeat < 0) {
+            unfinishedGames++;
+        } else {
+            wins[winnerSeat]++;
+        }
+        for (int seat = 0; seat < busts.length; seat++) {
+            busts[seat] += game.busts(seat);
+        }
+    }
+
+    SimulationStats merge(SimulationStats other) {
+        games += other.games;
+        unfinishedGames += other.unfinishedGames;
+        totalRounds += other.totalRounds;
+        for (int seat = 0; seat < wins.length; seat++) {
+            wins[seat] += other.wins[seat];
+            busts[seat] += other.busts[seat];
+        }
+        return this;
+    }
+
+    SimulationResult toResult(List<String> names, long elapsedNanos) {
+        List<PlayerResult> results = new ArrayList<>();
+        for (int seat = 0; seat < wins.length; seat++) {
+            results.add(new PlayerResult(names.get(seat), games, wins[seat], totalRounds, busts[seat]));
+        }
+        return new SimulationResult(games, unfinishedGames, totalRounds, List.copyOf(results), elapsedNanos);
+    }
+}
@@ -0,0 +1,42 @@
+package com.flavia.simulation;
+
+import com.flavia.simulation.StreamingStatistics.Counter;
+
+import java.util.Map;
+
+/**
+ * Point-in-time copy of StreamingStatistics, keyed by player name and by strategy.
+ */
+public record StatisticsSnapshot(
+        long games,
+        long turns,
+        Map<String, CounterSnapshot> players,
+        Map<String, CounterSnapshot> strategies
+) {
+
+    public StatisticsSnapshot {
+        players = Map.copyOf(players);
+        strategies = Map.copyOf(strategies);
+    }
+
+    /** Human readable table, players first, then strategies. */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %d, turns: %d%n", games, turns));
+        appendTable(sb, "Player", players);
+        appendTable(sb, "Strategy", strategies);
+        return sb.toString();
+    }
+
+    private static void appendTable(StringBuilder sb, String title, Map<String, CounterSnapshot> rows) {
+        sb.append(String.format("%-24s %10s %10s %10s %10s %10s %10s %10s%n", title,
+                "Wins", "Rounds", "Bust rate", "Avg score", "2nd saves", "Frozen", "F3 busts"));
+        rows.keySet().stream().sorted().forEach(key -> {
+            CounterSnapshot c = rows.get(key);
+            sb.append(String.format("%-24s %10d %10d %9.2f%% %10.2f %10d %10d %9.2f%%%n", key,
+                    c.get(Counter.WINS), c.get(Counter.ROUNDS), c.bustRate() * 100, c.averageRoundScore(),
+                    c.get(Counter.SECOND_CHANCE_SAVES), c.get(Counter.TIMES_FROZEN),
+                    c.flipThreeBustRate() * 100));
+        });
+    }
+}
@@ -0,0 +1,173 @@
+package com.flavia.simulation;
+
+import com.flavia.domain.model.Deck;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+
+/**
+ * Finds a good strategy parameter (e.g. hitUntilPoints of SimpleBotPlayer) by simulation.
+ *
+ * Every grid value seats one candidate against a fixed set of opponents. Candidates play
+ * in rounds of successive halving: after each round, candidates that are clearly worse
+ * than the leader are dropped, then at most half of the rest stays. Each round doubles
+ * the games per candidate, so most games go to the strongest candidates.
+ *
+ * Decision:
+ * - "Clearly worse": the upper confidence bound is below the leader's lower bound
+ *   (normal approximation, win rate +- z * standard error).
+ * - All candidates of a round play the same deck seeds (common random numbers),
+ *   so differences come from the strategy, not from the cards.
+ * - Ranking follows the halving: later eliminated is better, then higher win rate.
+ *   A candidate dropped early with few games cannot outrank one that survived.
+ * - The candidate always takes seat 0. Win rates are meant for ranking, not as absolute values.
+ * - Games of a candidate run in parallel through TournamentRunner.
+ */
+public class StrategyTuner {
+
+    public static final double DEFAULT_Z = 1.96;
+    public static final int DEFAULT_HALVING_ROUNDS = 6;
+
+    private final IntFunction<Player> candidateFactory;
+    private final PlayerFactory opponents;
+    private final int targetScore;
+    private final long seed;
+    private final double z;
+    private final ForkJoinPool pool;
+
+    public StrategyTuner(IntFunction<Player> candidateFactory, PlayerFactory opponents, long seed) {
+        this(candidateFactory, opponents, 200, seed, DEFAULT_Z, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param candidateFactory creates a fresh candidate player for a parameter value
+     * @param opponents        creates the fresh opponents of every game
+     * @param z                width of the confidence interval in standard errors
+     */
+    public StrategyTuner(IntFunction<Player> candidateFactory, PlayerFactory opponents, int targetScore,
+                         long seed, double z, ForkJoinPool pool) {
+        this.candidateFactory = candidateFactory;
+        this.opponents = opponents;
+        this.targetScore = targetScore;
+        this.seed = seed;
+        this.z = z;
+        this.pool = pool;
+    }
+
+    /**
+     * @param grid          parameter values to compare
+     * @param initialGames  games per candidate in the first round
+     * @param halvingRounds maximum number of rounds
+     */
+    public TuningResult tune(int[] grid, int initialGames, int halvingRounds) {
+        if (grid.length == 0) {
+            throw new IllegalArgumentException("Grid must not be empty");
+        }
+        long start = System.nanoTime();
+
+        List<Candidate> all = new ArrayList<>();
+        for (int parameter : grid) {
+            all.add(new Candidate(parameter));
+        }
+        List<Candidate> alive = new ArrayList<>(all);
+        long totalGames = 0;
+
+        for (int round = 0; round < halvingRounds && alive.size() > 1; round++) {
+            int games = initialGames << round;
+            long roundSeed = GameSimulator.gameSeed(seed, round);
+            for (Candidate candidate : alive) {
+                SimulationResult result = play(candidate.parameter, games, roundSeed);
+                candidate.games += result.games();
+                candidate.wins += result.players().getFirst().wins();
+                totalGames += result.games();
+            }
+            alive = eliminate(alive, round);
+        }
+
+        List<CandidateResult> ranking = all.stream()
+                .map(c -> new CandidateResult(c.parameter, c.games, c.wins, c.eliminatedInRound))
+                .sorted(Comparator.comparingInt(CandidateResult::roundsSurvived)
+                        .thenComparingDouble(CandidateResult::winRate)
+                        .reversed())
+                .toList();
+        return new TuningResult(ranking, totalGames, z, System.nanoTime() - start);
+    }
+
+    private SimulationResult play(int parameter, int games, long roundSeed) {
+        PlayerFactory lineup = () -> {
+            List<Player> players = new ArrayList<>();
+            players.add(candidateFactory.apply(parameter));
+            players.addAll(opponents.createPlayers());
+            return players;
+        };
+        return new TournamentRunner(lineup, Deck::new, targetScore, GameSimulator.DEFAULT_MAX_ROUNDS,
+                roundSeed, pool).run(games);
+    }
+
+    // Drops clearly worse candidates, then keeps the better half of the rest (at least one)
+    private List<Candidate> eliminate(List<Candidate> alive, int round) {
+        List<Candidate> sorted = new ArrayList<>(alive);
+        sorted.sort(Comparator.comparingDouble(Candidate::winRate).reversed());
+        Candidate leader = sorted.getFirst();
+        double leaderLower = leader.winRate() - z * leader.standardError();
+
+        int keep = Math.max(1, (alive.size() + 1) / 2);
+        List<Candidate> survivors = new ArrayList<>();
+        for (Candidate candidate : sorted) {
+            boolean clearlyWorse = candidate.winRate() + z * candidate.standardError() < leaderLower;
+            if (!clearlyWorse && survivors.size() < keep) {
+                survivors.add(candidate);
+            } else {
+                candidate.eliminatedInRound = round;
+            }
+        }
+        return survivors;
+    }
+
+    private static final class Candidate {
+        final int parameter;
+        long games;
+        long wins;
+        int eliminatedInRound = -1;
+
+        Candidate(int parameter) {
+            this.parameter = parameter;
+        }
+
+        double winRate() {
+            return games == 0 ? 0.0 : (double) wins / games;
+        }
+
+        double standardError() {
+            return CandidateResult.standardError(wins, games);
+        }
+    }
+
+    /**
+     * Usage: StrategyTuner [initialGames] [seed]
+     * Tunes hitUntilPoints of SimpleBotPlayer against two bots with the Main default (15).
+     */
+    public static void main(String[] args) {
+        int initialGames = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : new SplittableRandom().nextLong();
+
+        int[] grid = new int[36];
+        for (int i = 0; i < grid.length; i++) {
+            grid[i] = 5 + i;
+        }
+        StrategyTuner tuner = new StrategyTuner(
+                threshold -> new SimpleBotPlayer("Candidate", threshold, false),
+                () -> List.of(new SimpleBotPlayer("Bot-15a", 15, false), new SimpleBotPlayer("Bot-15b", 15, false)),
+                seed);
+
+        TuningResult result = tuner.tune(grid, initialGames, DEFAULT_HALVING_ROUNDS);
+        System.out.println("Seed: " + seed);
+        System.out.print(result.report());
+    }
+}
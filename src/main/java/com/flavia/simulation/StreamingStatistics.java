@@ -0,0 +1,273 @@
+package com.flavia.simulation;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.engine.GameEventListener;
+import com.flavia.engine.Seats;
+import com.flavia.engine.TurnEvent;
+import com.flavia.player.Player;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Aggregates TurnEvents of any number of games into counters and histograms,
+ * per player name and per strategy.
+ *
+ * Usage: pass recorder(players) as (part of) the listener of each game.
+ *
+ * Decision:
+ * - Counters are LongAdders, so games on many threads can record at the same time and
+ *   snapshot() can read them at any moment without stopping anybody.
+ * - Memory depends on the number of distinct players and strategies, not on the number
+ *   of games: every key owns a fixed set of counters and histogram buckets.
+ * - A recorder counts in plain arrays and adds them to the shared adders when the game is
+ *   won and every FLUSH_INTERVAL_ROUNDS rounds. Per-event or per-round adder updates cost
+ *   more than the game itself. Snapshots lag by at most that many rounds per running game;
+ *   rounds of a game stopped without a winner are counted up to its last flush.
+ * - Strategy defaults to the player's class name.
+ */
+public class StreamingStatistics {
+
+    /** Counters kept per player and per strategy. */
+    public enum Counter {
+        ROUNDS,
+        WINS,
+        CARDS_DRAWN,
+        STAYS,
+        BUSTS,
+        SECOND_CHANCE_SAVES,
+        FREEZES_PLAYED,
+        TIMES_FROZEN,
+        FLIP_THREES_PLAYED,
+        FLIP_THREES_RECEIVED,
+        // Target busted while drawing for a Flip Three
+        FLIP_THREE_BUSTS,
+        ROUND_POINTS
+    }
+
+    public static final int SCORE_BUCKET_WIDTH = 10;
+    // Scored rounds with 0-9, 10-19, ..., 90-99, 100+ points (busted rounds are not included)
+    public static final int SCORE_BUCKETS = 11;
+    // Number cards in hand when busting: 0..6, 7+
+    public static final int HAND_SIZE_BUCKETS = 8;
+
+    static final int FLUSH_INTERVAL_ROUNDS = 16;
+
+    private static final Counter[] COUNTERS = Counter.values();
+
+    private final Function<Player, String> strategyOf;
+    private final Map<String, Counters> byPlayer = new ConcurrentHashMap<>();
+    private final Map<String, Counters> byStrategy = new ConcurrentHashMap<>();
+    private final LongAdder games = new LongAdder();
+    private final LongAdder turns = new LongAdder();
+
+    public StreamingStatistics() {
+        this(player -> player.getClass().getSimpleName());
+    }
+
+    /**
+     * @param strategyOf groups players into strategies, e.g. by class or parameter
+     */
+    public StreamingStatistics(Function<Player, String> strategyOf) {
+        this.strategyOf = strategyOf;
+    }
+
+    /**
+     * Listener for one game with the given seating. Not thread-safe: one per game.
+     */
+    public GameEventListener recorder(List<Player> players) {
+        return new Recorder(players);
+    }
+
+    /**
+     * Current totals of all flushed rounds. Safe to call while games are running.
+     */
+    public StatisticsSnapshot snapshot() {
+        return new StatisticsSnapshot(games.sum(), turns.sum(), snapshot(byPlayer), snapshot(byStrategy));
+    }
+
+    private static Map<String, CounterSnapshot> snapshot(Map<String, Counters> counters) {
+        Map<String, CounterSnapshot> result = new HashMap<>();
+        counters.forEach((key, c) -> result.put(key, c.snapshot(key)));
+        return result;
+    }
+
+    /** Fixed set of adders for one key. */
+    private static final class Counters {
+        private final LongAdder[] counters = adders(COUNTERS.length);
+        private final LongAdder[] roundScores = adders(SCORE_BUCKETS);
+        private final LongAdder[] bustHandSizes = adders(HAND_SIZE_BUCKETS);
+
+        // Adds the non-zero values of a recorder's local counts
+        void addAll(long[] counts, long[] scores, long[] handSizes) {
+            addAll(counters, counts);
+            addAll(roundScores, scores);
+            addAll(bustHandSizes, handSizes);
+        }
+
+        CounterSnapshot snapshot(String key) {
+            return new CounterSnapshot(key, sums(counters), sums(roundScores), sums(bustHandSizes));
+        }
+
+        private static void addAll(LongAdder[] adders, long[] values) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != 0) {
+                    adders[i].add(values[i]);
+                }
+            }
+        }
+
+        private static LongAdder[] adders(int n) {
+            LongAdder[] adders = new LongAdder[n];
+            for (int i = 0; i < n; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+
+        private static long[] sums(LongAdder[] adders) {
+            long[] sums = new long[adders.length];
+            for (int i = 0; i < adders.length; i++) {
+                sums[i] = adders[i].sum();
+            }
+            return sums;
+        }
+    }
+
+    /**
+     * Per-game state: seat lookups, counts since the last flush and what happened earlier
+     * in the current turn.
+     */
+    private final class Recorder implements GameEventListener {
+        private final List<Player> players;
+        private final Counters[] playerCounters;
+        private final Counters[] strategyCounters;
+        // Counts since the last flush per seat, indexed like the adders
+        private final long[][] counts;
+        private final long[][] roundScores;
+        private final long[][] bustHandSizes;
+        // Number cards drawn and Second Chance saves per seat in the current round
+        private final int[] numbersDrawn;
+        private final int[] saves;
+        private long unflushedTurns;
+        private int unflushedRounds;
+
+        Recorder(List<Player> players) {
+            this.players = List.copyOf(players);
+            int seats = players.size();
+            this.playerCounters = new Counters[seats];
+            this.strategyCounters = new Counters[seats];
+            this.counts = new long[seats][COUNTERS.length];
+            this.roundScores = new long[seats][SCORE_BUCKETS];
+            this.bustHandSizes = new long[seats][HAND_SIZE_BUCKETS];
+            this.numbersDrawn = new int[seats];
+            this.saves = new int[seats];
+            for (int seat = 0; seat < seats; seat++) {
+                Player player = players.get(seat);
+                playerCounters[seat] = byPlayer.computeIfAbsent(player.getName(), k -> new Counters());
+                strategyCounters[seat] = byStrategy.computeIfAbsent(strategyOf.apply(player), k -> new Counters());
+            }
+        }
+
+        @Override
+        public void onRoundStart() {
+            for (int seat = 0; seat < players.size(); seat++) {
+                counts[seat][Counter.ROUNDS.ordinal()]++;
+            }
+            Arrays.fill(numbersDrawn, 0);
+            Arrays.fill(saves, 0);
+        }
+
+        @Override
+        public void onTurn(Player turnPlayer, List<TurnEvent> events) {
+            unflushedTurns++;
+            int lastDrawnSeat = -1;
+            int flipThreeTarget = -1;
+            for (TurnEvent event : events) {
+                if (event instanceof TurnEvent.CardDrawn(Player player, var card)) {
+                    lastDrawnSeat = seatOf(player);
+                    increment(lastDrawnSeat, Counter.CARDS_DRAWN);
+                    if (card.type() == CardType.NUMBER) {
+                        numbersDrawn[lastDrawnSeat]++;
+                    }
+                } else if (event instanceof TurnEvent.PlayerStayed(Player player)) {
+                    increment(seatOf(player), Counter.STAYS);
+                } else if (event instanceof TurnEvent.PlayerBusted(Player player, var card)) {
+                    int seat = seatOf(player);
+                    increment(seat, Counter.BUSTS);
+                    // The duplicate and the saved duplicates are not in the hand
+                    int handSize = numbersDrawn[seat] - 1 - saves[seat];
+                    bustHandSizes[seat][Math.min(Math.max(handSize, 0), HAND_SIZE_BUCKETS - 1)]++;
+                    if (seat == flipThreeTarget) {
+                        increment(seat, Counter.FLIP_THREE_BUSTS);
+                    }
+                } else if (event instanceof TurnEvent.SecondChanceConsumed(Player player, var card)) {
+                    int seat = seatOf(player);
+                    saves[seat]++;
+                    increment(seat, Counter.SECOND_CHANCE_SAVES);
+                } else if (event instanceof TurnEvent.PlayerFrozen(Player target)) {
+                    increment(seatOf(target), Counter.TIMES_FROZEN);
+                    if (lastDrawnSeat >= 0) {
+                        increment(lastDrawnSeat, Counter.FREEZES_PLAYED);
+                    }
+                } else if (event instanceof TurnEvent.ActionCardPlayed(Player actor, var card, Player target)
+                        && card.type() == CardType.FLIP_THREE) {
+                    flipThreeTarget = seatOf(target);
+                    increment(seatOf(actor), Counter.FLIP_THREES_PLAYED);
+                    increment(flipThreeTarget, Counter.FLIP_THREES_RECEIVED);
+                }
+            }
+        }
+
+        @Override
+        public void onPlayerScored(Player player, int points, int totalPoints, boolean busted) {
+            if (busted) {
+                return;
+            }
+            int seat = seatOf(player);
+            counts[seat][Counter.ROUND_POINTS.ordinal()] += points;
+            roundScores[seat][Math.min(points / SCORE_BUCKET_WIDTH, SCORE_BUCKETS - 1)]++;
+        }
+
+        @Override
+        public void onRoundEnd() {
+            if (++unflushedRounds == FLUSH_INTERVAL_ROUNDS) {
+                flush();
+            }
+        }
+
+        // Called instead of onRoundEnd for the last round
+        @Override
+        public void onGameWon(Player winner) {
+            increment(seatOf(winner), Counter.WINS);
+            flush();
+            games.increment();
+        }
+
+        private void flush() {
+            turns.add(unflushedTurns);
+            unflushedTurns = 0;
+            unflushedRounds = 0;
+            for (int seat = 0; seat < players.size(); seat++) {
+                playerCounters[seat].addAll(counts[seat], roundScores[seat], bustHandSizes[seat]);
+                strategyCounters[seat].addAll(counts[seat], roundScores[seat], bustHandSizes[seat]);
+                Arrays.fill(counts[seat], 0);
+                Arrays.fill(roundScores[seat], 0);
+                Arrays.fill(bustHandSizes[seat], 0);
+            }
+        }
+
+        private void increment(int seat, Counter counter) {
+            counts[seat][counter.ordinal()]++;
+        }
+
+        private int seatOf(Player player) {
+            return Seats.seatOf(players, player);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.flavia.simulation;
+
+import com.flavia.domain.model.Deck;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+/**
+ * Plays many independent games in parallel on a fork-join pool.
+ *
+ * Decision:
+ * - One engine, deck and lineup per game: nothing mutable is shared between tasks.
+ * - Each leaf task fills its own SimulationStats; results are merged on join (no global lock).
+ * - Deck seeds are derived per game index, so results do not depend on how tasks are scheduled.
+ * - Optional StreamingStatistics are shared by all tasks; they can be read while the run is going.
+ */
+public class TournamentRunner {
+
+    // Games per leaf task; large enough to amortize task overhead, small enough for work stealing
+    private static final int GAMES_PER_TASK = 256;
+
+    private final PlayerFactory playerFactory;
+    private final LongFunction<Deck> deckFactory;
+    private final int targetScore;
+    private final int maxRounds;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    public TournamentRunner(PlayerFactory playerFactory) {
+        this(playerFactory, Deck::new, 200, GameSimulator.DEFAULT_MAX_ROUNDS,
+                new SplittableRandom().nextLong(), ForkJoinPool.commonPool());
+    }
+
+    public TournamentRunner(PlayerFactory playerFactory, LongFunction<Deck> deckFactory, int targetScore,
+                            int maxRounds, long seed, ForkJoinPool pool) {
+        this.playerFactory = playerFactory;
+        this.deckFactory = deckFactory;
+        this.targetScore = targetScore;
+        this.maxRounds = maxRounds;
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public SimulationResult run(int games) {
+        return run(games, null);
+    }
+
+    /**
+     * @param statistics receives the events of every game, may be null
+     */
+    public SimulationResult run(int games, StreamingStatistics statistics) {
+        long start = System.nanoTime();
+
+        List<String> names = playerFactory.createPlayers().stream().map(Player::getName).toList();
+        SimulationStats stats = pool.invoke(new GameBatch(0, games, names.size(), statistics));
+
+        return stats.toResult(names, System.nanoTime() - start);
+    }
+
+    private class GameBatch extends RecursiveTask<SimulationStats> {
+
+        private final int from;
+        private final int to;
+        private final int seats;
+        private final StreamingStatistics statistics;
+
+        GameBatch(int from, int to, int seats, StreamingStatistics statistics) {
+            this.from = from;
+            this.to = to;
+            this.seats = seats;
+            this.statistics = statistics;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                SimulationStats local = new SimulationStats(seats);
+                for (int g = from; g < to; g++) {
+                    List<Player> players = playerFactory.createPlayers();
+                    if (players.size() != seats) {
+                        throw new IllegalStateException("PlayerFactory must always create " + seats + " players");
+                    }
+                    Deck deck = deckFactory.apply(GameSimulator.gameSeed(seed, g));
+                    GameSimulator.playGame(players, deck, targetScore, maxRounds, local,
+                            statistics == null ? null : statistics.recorder(players));
+                }
+                return local;
+            }
+
+            int mid = (from + to) >>> 1;
+            GameBatch left = new GameBatch(from, mid, seats, statistics);
+            GameBatch right = new GameBatch(mid, to, seats, statistics);
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+    }
+
+    /**
+     * Usage: TournamentRunner [games] [threads] [seed]
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : new SplittableRandom().nextLong();
+
+        PlayerFactory lineup = () -> List.of(
+                new SimpleBotPlayer("Bot-10", 10, false),
+                new SimpleBotPlayer("Bot-15", 15, false),
+                new SimpleBotPlayer("Bot-20", 20, false)
+        );
+
+        try (ForkJoinPool pool = new ForkJoinPool(threads)) {
+            SimulationResult result = new TournamentRunner(lineup, Deck::new, 200,
+                    GameSimulator.DEFAULT_MAX_ROUNDS, seed, pool).run(games);
+            System.out.println("Seed: " + seed);
+            System.out.print(result.report());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.flavia.simulation;
+
+import java.util.List;
+
+/**
+ * Ranking of all candidates of a tuning run, survivor first.
+ */
+public record TuningResult(
+        List<CandidateResult> ranking,
+        long totalGames,
+        double z,
+        long elapsedNanos
+) {
+
+    public CandidateResult best() {
+        return ranking.getFirst();
+    }
+
+    /** Human readable table, one line per candidate. */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %d, %.1f s, confidence interval: +-%.2f SE%n",
+                totalGames, elapsedNanos / 1e9, z));
+        sb.append(String.format("%4s %10s %10s %10s %10s %12s%n",
+                "Rank", "Parameter", "Games", "Win rate", "Std err", "Status"));
+        int rank = 1;
+        for (CandidateResult c : ranking) {
+            String status = c.survived() ? "survived" : "out in " + (c.eliminatedInRound() + 1);
+            sb.append(String.format("%4d %10d %10d %9.2f%% %9.2f%% %12s%n",
+                    rank++, c.parameter(), c.games(), c.winRate() * 100, c.standardError() * 100, status));
+        }
+        return sb.toString();
+    }
+}
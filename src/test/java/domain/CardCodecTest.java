@@ -0,0 +1,74 @@
+package domain;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.CardCodec;
+import com.flavia.domain.model.Deck;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardCodecTest {
+
+    // Tests if every card kind survives an encode/decode round trip
+    @Test
+    void encodeDecode_roundTripsAllCardKinds() {
+        for (int value = 0; value <= 12; value++) {
+            Card card = new Card(value, CardType.NUMBER);
+            assertEquals(value, CardCodec.encode(card));
+            assertEquals(card, CardCodec.decode(CardCodec.encode(card)));
+        }
+        assertEquals(new Card(0, CardType.FREEZE), CardCodec.decode(CardCodec.FREEZE));
+        assertEquals(new Card(0, CardType.FLIP_THREE), CardCodec.decode(CardCodec.FLIP_THREE));
+        assertEquals(new Card(0, CardType.SECOND_CHANCE), CardCodec.decode(CardCodec.SECOND_CHANCE));
+    }
+
+    // Tests if decoding returns shared instances instead of allocating new cards
+    @Test
+    void decode_returnsSharedInstances() {
+        assertSame(CardCodec.decode(7), CardCodec.decode(7));
+        assertSame(CardCodec.decode(CardCodec.FREEZE), CardCodec.decode(CardCodec.FREEZE));
+    }
+
+    // Tests if number values outside 0-12 are rejected
+    @Test
+    void encode_rejectsNumberOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> CardCodec.encode(new Card(13, CardType.NUMBER)));
+        assertThrows(IllegalArgumentException.class, () -> CardCodec.encode(new Card(-1, CardType.NUMBER)));
+    }
+
+    // Tests if action cards with a value are rejected instead of silently losing it
+    @Test
+    void encode_rejectsActionCardWithValue() {
+        assertThrows(IllegalArgumentException.class, () -> CardCodec.encode(new Card(5, CardType.FREEZE)));
+        assertThrows(IllegalArgumentException.class, () -> new Deck(List.of(new Card(1, CardType.SECOND_CHANCE))));
+    }
+
+    // Tests if the card factories return the canonical instances of the codec
+    @Test
+    void factories_returnCanonicalInstances() {
+        for (int value = 0; value <= 12; value++) {
+            assertSame(CardCodec.decode(value), Card.number(value));
+            assertSame(Card.number(value), Card.of(value, CardType.NUMBER));
+        }
+        assertSame(CardCodec.decode(CardCodec.FREEZE), Card.of(CardType.FREEZE));
+        assertSame(CardCodec.decode(CardCodec.FLIP_THREE), Card.of(CardType.FLIP_THREE));
+        assertSame(CardCodec.decode(CardCodec.SECOND_CHANCE), Card.of(CardType.SECOND_CHANCE));
+        assertThrows(IllegalArgumentException.class, () -> Card.number(13));
+    }
+
+    // Tests if constructed cards stay equal to the canonical ones, with the same hash code, and a missing type does not throw
+    @Test
+    void constructedCards_equalCanonicalCards() {
+        Card constructed = new Card(9, CardType.NUMBER);
+
+        assertEquals(Card.number(9), constructed);
+        assertEquals(Card.number(9).hashCode(), constructed.hashCode());
+        assertNotEquals(Card.number(0), Card.of(CardType.FREEZE));
+        assertNotEquals(Card.number(0).hashCode(), Card.of(CardType.FREEZE).hashCode());
+        assertEquals(new Card(0, null), new Card(0, null));
+        assertEquals(new Card(0, null).hashCode(), new Card(0, null).hashCode());
+    }
+}
@@ -0,0 +1,97 @@
+package domain;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.CardCodec;
+import com.flavia.domain.model.Deck;
+import com.flavia.domain.model.DeckSpec;
+import com.flavia.engine.GameEngine;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeckSpecTest {
+
+    // Tests if the standard spec has the composition of the original deck
+    @Test
+    void standard_hasOriginalComposition() {
+        DeckSpec spec = DeckSpec.STANDARD;
+
+        assertEquals(99, spec.size());
+        assertEquals(1, spec.count(0));
+        assertEquals(12, spec.count(11));
+        assertEquals(12, spec.count(12));
+        assertEquals(3, spec.count(CardCodec.FREEZE));
+        assertEquals(3, spec.count(CardCodec.FLIP_THREE));
+        assertEquals(3, spec.count(CardCodec.SECOND_CHANCE));
+    }
+
+    // Tests if a seeded standard deck deals the same cards as the default constructor
+    @Test
+    void standardSpec_dealsLikeDefaultDeck() {
+        Deck original = new Deck(42L);
+        Deck fromSpec = new Deck(DeckSpec.STANDARD, 42L);
+
+        assertEquals(original.viewDrawPile(), fromSpec.viewDrawPile());
+    }
+
+    // Tests if a shoe multiplies every count by the number of decks
+    @Test
+    void multiDeckShoe_scalesCounts() {
+        DeckSpec shoe = DeckSpec.STANDARD.withDecks(4);
+        Deck deck = new Deck(shoe, 1L);
+
+        assertEquals(4 * 99, deck.drawPileSize());
+        for (int code = 0; code < CardCodec.CARD_KINDS; code++) {
+            assertEquals(4 * DeckSpec.STANDARD.count(code), deck.drawPileCount(code));
+        }
+    }
+
+    // Tests if custom counts change only the given card and leave the original spec untouched
+    @Test
+    void withCounts_returnsChangedCopy() {
+        DeckSpec spec = DeckSpec.STANDARD
+                .withNumberCount(12, 0)
+                .withActionCount(CardType.SECOND_CHANCE, 6);
+        Deck deck = new Deck(spec, 3L);
+
+        assertEquals(99 - 12 + 3, deck.drawPileSize());
+        assertEquals(0, deck.drawPileCount(12));
+        assertEquals(6, deck.drawPileCount(CardCodec.SECOND_CHANCE));
+        assertFalse(deck.viewDrawPile().contains(new Card(12, CardType.NUMBER)));
+        assertEquals(12, DeckSpec.STANDARD.count(12));
+        assertNotEquals(DeckSpec.STANDARD, spec);
+    }
+
+    // Tests if invalid specs are rejected
+    @Test
+    void invalidSpecs_throw() {
+        assertThrows(IllegalArgumentException.class, () -> DeckSpec.STANDARD.withDecks(0));
+        assertThrows(IllegalArgumentException.class, () -> DeckSpec.STANDARD.withNumberCount(13, 1));
+        assertThrows(IllegalArgumentException.class, () -> DeckSpec.STANDARD.withNumberCount(5, -1));
+        assertThrows(IllegalArgumentException.class, () -> DeckSpec.STANDARD.withActionCount(CardType.NUMBER, 1));
+    }
+
+    // Tests if a full table of 18 players can finish a game with a three-deck shoe
+    @Test
+    void multiDeckShoe_playsFullTable() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 18; i++) {
+            players.add(new SimpleBotPlayer("Bot-" + i, 20, false));
+        }
+        GameEngine engine = new GameEngine(players, new Deck(DeckSpec.STANDARD.withDecks(3), 5L), 200);
+
+        Optional<Player> winner = Optional.empty();
+        for (int round = 0; round < 1_000 && winner.isEmpty(); round++) {
+            winner = engine.playRound();
+        }
+
+        assertTrue(winner.isPresent());
+    }
+}
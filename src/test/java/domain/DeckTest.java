@@ -2,12 +2,15 @@ package domain;
 
 import com.flavia.domain.enums.CardType;
 import com.flavia.domain.model.Card;
+import com.flavia.domain.model.CardCodec;
 import com.flavia.domain.model.Deck;
 import com.flavia.exceptions.DeckEmptyException;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -65,10 +68,159 @@ class DeckTest {
         assertThrows(DeckEmptyException.class, deck::draw);
     }
 
+    // Tests if tryDraw returns card codes, refills from the discard pile and signals an empty deck with NO_CARD
+    @Test
+    void tryDraw_returnsCodes_andNoCardWhenEmpty() {
+        Deck deck = new Deck(List.of(new Card(4, CardType.NUMBER)));
+        deck.discard(new Card(0, CardType.FREEZE));
+
+        assertEquals(4, deck.tryDraw());
+        assertEquals(CardCodec.FREEZE, deck.tryDraw());
+        assertEquals(Deck.NO_CARD, deck.tryDraw());
+        assertEquals(Deck.NO_CARD, deck.tryDraw());
+        assertEquals(0, deck.drawPileSize());
+    }
+
     // Tests if discarding an empty list works without error
     @Test
     void discardAll_acceptsEmptyList_andDoesNotThrow() {
         Deck deck = new Deck(List.of(new Card(5, CardType.NUMBER)));
         assertDoesNotThrow(() -> deck.discardAll(List.of()));
     }
+
+    // Tests if two decks with the same seed deal the same sequence, including reshuffles
+    @Test
+    void seededDecks_dealIdenticalSequences_acrossRefills() throws DeckEmptyException {
+        Deck a = new Deck(42L);
+        Deck b = new Deck(42L);
+
+        assertEquals(a.viewDrawPile(), b.viewDrawPile());
+
+        List<Card> drawnA = new ArrayList<>();
+        List<Card> drawnB = new ArrayList<>();
+        int size = a.drawPileSize();
+        for (int i = 0; i < size; i++) {
+            drawnA.add(a.draw());
+            drawnB.add(b.draw());
+        }
+        a.discardAll(drawnA);
+        b.discardAll(drawnB);
+        assertEquals(0, a.drawPileSize());
+
+        // Draw pile is empty: the next draw triggers the reshuffle of the discard pile
+        for (int i = 0; i < 10; i++) {
+            assertEquals(a.draw(), b.draw());
+        }
+    }
+
+    // Tests if copying a seeded deck leaves its later reshuffles unchanged
+    @Test
+    void copy_doesNotAdvanceSeededGenerator() throws DeckEmptyException {
+        Deck a = new Deck(42L);
+        Deck b = new Deck(42L);
+        Deck lookahead = a.copy();
+        lookahead.draw();
+        a.copy().copy();
+
+        List<Card> drawnA = new ArrayList<>();
+        List<Card> drawnB = new ArrayList<>();
+        int size = a.drawPileSize();
+        for (int i = 0; i < size; i++) {
+            drawnA.add(a.draw());
+            drawnB.add(b.draw());
+        }
+        assertEquals(drawnA, drawnB);
+        a.discardAll(drawnA);
+        b.discardAll(drawnB);
+
+        // Reshuffle of the discard pile uses the generators
+        for (int i = 0; i < size; i++) {
+            assertEquals(b.draw(), a.draw());
+        }
+    }
+
+    // Tests if a preset deck keeps its order and only uses the generator for reshuffles
+    @Test
+    void presetDeck_withGenerator_keepsOrder() throws DeckEmptyException {
+        Deck deck = new Deck(List.of(
+                new Card(1, CardType.NUMBER),
+                new Card(2, CardType.NUMBER)
+        ), new SplittableRandom(1));
+
+        assertEquals(new Card(1, CardType.NUMBER), deck.draw());
+        assertEquals(new Card(2, CardType.NUMBER), deck.draw());
+    }
+
+    // Tests if cards cycle through draw, discard and refill many times without loss
+    @Test
+    void drawDiscardRefill_keepsAllCardsInCirculation() throws DeckEmptyException {
+        Deck deck = new Deck(7L);
+        int total = deck.drawPileSize();
+
+        for (int cycle = 0; cycle < 5; cycle++) {
+            List<Card> drawn = new ArrayList<>();
+            while (drawn.size() < total) {
+                drawn.add(deck.draw());
+            }
+            assertEquals(0, deck.drawPileSize());
+            deck.discardAll(drawn);
+        }
+
+        deck.draw();
+        assertEquals(total - 1, deck.drawPileSize());
+    }
+
+    // Tests if the draw pile view follows draws without copying
+    @Test
+    void viewDrawPile_isLiveView() throws DeckEmptyException {
+        Deck deck = new Deck(List.of(new Card(1, CardType.NUMBER), new Card(2, CardType.NUMBER)));
+        List<Card> view = deck.viewDrawPile();
+
+        deck.draw();
+
+        assertEquals(List.of(new Card(2, CardType.NUMBER)), view);
+    }
+
+    // Tests if restoring a snapshot brings back both piles, also after a refill
+    @Test
+    void restore_undoesDrawsAndDiscards() throws DeckEmptyException {
+        Deck deck = new Deck(7L);
+        for (int i = 0; i < 5; i++) {
+            deck.discard(deck.draw());
+        }
+        Deck.Snapshot snapshot = deck.snapshot();
+        List<Card> expectedPile = new ArrayList<>(deck.viewDrawPile());
+
+        int drawSize = deck.drawPileSize();
+        // Draw everything, which also refills from the discard pile
+        for (int i = 0; i < drawSize + 5; i++) {
+            deck.draw();
+        }
+        deck.restore(snapshot);
+
+        assertEquals(expectedPile, deck.viewDrawPile());
+        assertEquals(drawSize, snapshot.drawPileSize());
+        assertEquals(5, snapshot.discardPileSize());
+        for (int code = 0; code < 16; code++) {
+            final int c = code;
+            assertEquals(expectedPile.stream().filter(card -> CardCodec.encode(card) == c).count(),
+                    deck.drawPileCount(code));
+        }
+        // Discard pile is back as well: draining the pile refills it with the 5 discarded cards
+        for (int i = 0; i < drawSize + 5; i++) {
+            deck.draw();
+        }
+        assertThrows(DeckEmptyException.class, deck::draw);
+    }
+
+    // Tests if a copy is independent of the original deck
+    @Test
+    void copy_isIndependent() throws DeckEmptyException {
+        Deck deck = new Deck(List.of(new Card(1, CardType.NUMBER), new Card(2, CardType.NUMBER)));
+        Deck copy = deck.copy();
+
+        assertEquals(new Card(1, CardType.NUMBER), copy.draw());
+        assertEquals(2, deck.drawPileSize());
+        assertEquals(new Card(1, CardType.NUMBER), deck.draw());
+    }
 }
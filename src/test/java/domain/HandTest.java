@@ -0,0 +1,115 @@
+package domain;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.CardCodec;
+import com.flavia.domain.model.Hand;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandTest {
+
+    // Tests if mask, points and counters follow additions
+    @Test
+    void add_updatesMaskPointsAndCounters() {
+        Hand hand = new Hand();
+        hand.add(new Card(3, CardType.NUMBER));
+        hand.add(new Card(12, CardType.NUMBER));
+        hand.add(new Card(0, CardType.SECOND_CHANCE));
+
+        assertEquals((1 << 3) | (1 << 12), hand.numberMask());
+        assertEquals(15, hand.points());
+        assertTrue(hand.hasNumber(12));
+        assertFalse(hand.hasNumber(0));
+        assertTrue(hand.hasSecondChance());
+        assertEquals(1, hand.count(CardCodec.SECOND_CHANCE));
+        assertEquals(List.of(
+                new Card(3, CardType.NUMBER),
+                new Card(12, CardType.NUMBER),
+                new Card(0, CardType.SECOND_CHANCE)
+        ), hand);
+    }
+
+    // Tests if a duplicate keeps the value bit until its last copy is removed
+    @Test
+    void remove_duplicateNumber_keepsBitUntilLastCopyIsGone() {
+        Hand hand = new Hand();
+        hand.add(new Card(5, CardType.NUMBER));
+        hand.add(new Card(5, CardType.NUMBER));
+        assertEquals(10, hand.points());
+
+        hand.remove(0);
+        assertTrue(hand.hasNumber(5));
+        assertEquals(5, hand.points());
+
+        hand.remove(0);
+        assertFalse(hand.hasNumber(5));
+        assertEquals(0, hand.points());
+        assertTrue(hand.isEmpty());
+    }
+
+    // Tests if removeCode removes exactly one matching card
+    @Test
+    void removeCode_removesFirstMatchOnly() {
+        Hand hand = new Hand();
+        hand.add(new Card(0, CardType.SECOND_CHANCE));
+        hand.add(new Card(7, CardType.NUMBER));
+        hand.add(new Card(0, CardType.SECOND_CHANCE));
+
+        assertTrue(hand.removeCode(CardCodec.SECOND_CHANCE));
+        assertEquals(List.of(new Card(7, CardType.NUMBER), new Card(0, CardType.SECOND_CHANCE)), hand);
+        assertTrue(hand.removeCode(CardCodec.SECOND_CHANCE));
+        assertFalse(hand.removeCode(CardCodec.SECOND_CHANCE));
+        assertFalse(hand.hasSecondChance());
+    }
+
+    // Tests if clear resets all tracked values and the hand grows beyond its initial capacity
+    @Test
+    void clear_resetsTracking_andHandGrows() {
+        Hand hand = new Hand();
+        for (int i = 0; i < 40; i++) {
+            hand.add(new Card(i % 13, CardType.NUMBER));
+        }
+        assertEquals(40, hand.size());
+
+        hand.clear();
+
+        assertEquals(0, hand.numberMask());
+        assertEquals(0, hand.points());
+        assertEquals(0, hand.count(1));
+        assertEquals(0, Hand.numberMaskOf(hand));
+        assertEquals(1 << 4, Hand.numberMaskOf(List.of(new Card(4, CardType.NUMBER), new Card(0, CardType.FREEZE))));
+    }
+
+    // Tests if set and sorting replace cards and keep mask, points and counters in sync
+    @Test
+    void set_andSort_updateTracking() {
+        Hand hand = new Hand();
+        hand.add(new Card(9, CardType.NUMBER));
+        hand.add(new Card(0, CardType.FREEZE));
+        hand.add(new Card(2, CardType.NUMBER));
+
+        assertEquals(new Card(0, CardType.FREEZE), hand.set(1, new Card(4, CardType.NUMBER)));
+        assertEquals((1 << 9) | (1 << 4) | (1 << 2), hand.numberMask());
+        assertEquals(15, hand.points());
+        assertEquals(0, hand.count(CardCodec.FREEZE));
+
+        hand.sort(Comparator.comparingInt(Card::value));
+        assertEquals(List.of(
+                new Card(2, CardType.NUMBER),
+                new Card(4, CardType.NUMBER),
+                new Card(9, CardType.NUMBER)
+        ), hand);
+        assertEquals(15, hand.points());
+
+        Collections.reverse(hand);
+        assertEquals(new Card(9, CardType.NUMBER), hand.get(0));
+        assertEquals((1 << 9) | (1 << 4) | (1 << 2), hand.numberMask());
+        assertThrows(IndexOutOfBoundsException.class, () -> hand.set(3, new Card(1, CardType.NUMBER)));
+    }
+}
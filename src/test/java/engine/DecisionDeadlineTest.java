@@ -0,0 +1,207 @@
+package engine;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.enums.PlayerAction;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.Deck;
+import com.flavia.domain.model.TurnInfo;
+import com.flavia.engine.DecisionDeadline;
+import com.flavia.engine.EngineOptions;
+import com.flavia.engine.GameEngine;
+import com.flavia.engine.GameEventListener;
+import com.flavia.engine.TurnEvent;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import com.flavia.player.TargetInfo;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecisionDeadlineTest {
+
+    // Tests if a hung player stays after the deadline, and the round still finishes
+    @Test
+    void hungPlayer_staysAfterDeadline() throws InterruptedException {
+        DecisionDeadline deadline = new DecisionDeadline(Duration.ofMillis(50));
+        HungPlayer hung = new HungPlayer("Hung");
+        List<Player> players = List.of(hung, new SimpleBotPlayer("B", 15, false), new SimpleBotPlayer("C", 15, false));
+        RecordingListener listener = new RecordingListener();
+
+        GameEngine engine = new GameEngine(players, new Deck(1L), 200, listener,
+                EngineOptions.defaults().withDecisionDeadline(deadline));
+        engine.playRound();
+
+        assertEquals(new TurnEvent.PlayerStayed(hung), listener.events.getFirst());
+        assertTrue(hung.interrupted.await(5, TimeUnit.SECONDS));
+        DecisionDeadline.DecisionStats stats = deadline.stats().get("Hung");
+        assertEquals(1, stats.timeouts());
+        assertEquals(1, stats.decisions());
+        assertTrue(stats.latency().maxNanos() >= Duration.ofMillis(50).toNanos());
+        assertEquals(0, deadline.stats().get("B").timeouts());
+    }
+
+    // Tests if a slow target choice falls back to the first eligible target
+    @Test
+    void slowTargetChoice_takesFirstTarget() {
+        DecisionDeadline deadline = new DecisionDeadline(Duration.ofMillis(20));
+        Player slow = new SimpleBotPlayer("Slow", 15, false) {
+            @Override
+            public String chooseTarget(TargetInfo info) {
+                sleepQuietly(5_000);
+                return info.eligibleTargetNames().getLast();
+            }
+        };
+
+        assertEquals("A", deadline.chooseTarget(slow, new TargetInfo(CardType.FREEZE, "Slow", List.of("A", "B"))));
+        assertEquals(1, deadline.stats().get("Slow").timeouts());
+    }
+
+    // Tests if fast players play exactly the same game with and without a deadline
+    @Test
+    void fastPlayers_playSameGame() {
+        List<Player> players = List.of(
+                new SimpleBotPlayer("A", 10, false),
+                new SimpleBotPlayer("B", 15, false),
+                new SimpleBotPlayer("C", 20, false)
+        );
+        DecisionDeadline deadline = new DecisionDeadline(Duration.ofSeconds(5));
+
+        assertEquals(playGame(players, EngineOptions.defaults().withLowAllocation(true)),
+                playGame(players, EngineOptions.defaults().withLowAllocation(true).withDecisionDeadline(deadline)));
+        assertEquals(0, deadline.stats().values().stream().mapToLong(DecisionDeadline.DecisionStats::timeouts).sum());
+        assertTrue(deadline.stats().get("A").decisions() > 0);
+    }
+
+    // Tests if the player gets an immutable snapshot instead of the engine's reusable TurnInfo
+    @Test
+    void decide_passesSnapshot() {
+        DecisionDeadline deadline = new DecisionDeadline(Duration.ofSeconds(5));
+        List<TurnInfo> seen = new ArrayList<>();
+        Player probe = new SimpleBotPlayer("Probe", 15, false) {
+            @Override
+            public PlayerAction decide(TurnInfo info) {
+                seen.add(info);
+                return PlayerAction.STAY;
+            }
+        };
+        TurnInfo info = new TurnInfo(new ArrayList<>(List.of(new Card(3, CardType.NUMBER))), 3, 0.9, 10, List.of());
+
+        assertEquals(PlayerAction.STAY, deadline.decide(probe, info));
+        assertEquals(info, seen.getFirst());
+        assertThrows(UnsupportedOperationException.class, () -> seen.getFirst().myCards().clear());
+    }
+
+    // Tests if an exception of the player reaches the caller as in synchronous mode
+    @Test
+    void failingPlayer_exceptionPropagates() {
+        DecisionDeadline deadline = new DecisionDeadline(Duration.ofSeconds(5));
+        Player failing = new SimpleBotPlayer("Failing", 15, false) {
+            @Override
+            public PlayerAction decide(TurnInfo info) {
+                throw new IllegalStateException("broken bot");
+            }
+        };
+        TurnInfo info = new TurnInfo(List.of(), 0, 1.0, 10, List.of());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> deadline.decide(failing, info));
+        assertEquals("broken bot", e.getMessage());
+    }
+
+    // Tests if a player whose timed-out call still runs is not called again until it returns
+    @Test
+    void timedOutCall_stillRunning_fallsBackWithoutCallingPlayer() throws InterruptedException {
+        DecisionDeadline deadline = new DecisionDeadline(Duration.ofMillis(20));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Player stubborn = new SimpleBotPlayer("Stubborn", 15, false) {
+            @Override
+            public PlayerAction decide(TurnInfo info) {
+                if (calls.incrementAndGet() == 1) {
+                    // Ignores the interrupt until released
+                    while (true) {
+                        try {
+                            release.await();
+                            break;
+                        } catch (InterruptedException ignored) {
+                            // keep waiting
+                        }
+                    }
+                    finished.countDown();
+                }
+                return PlayerAction.HIT;
+            }
+        };
+        TurnInfo info = new TurnInfo(List.of(), 0, 1.0, 10, List.of());
+
+        assertEquals(PlayerAction.STAY, deadline.decide(stubborn, info));
+        assertEquals(PlayerAction.STAY, deadline.decide(stubborn, info));
+        assertEquals(1, calls.get());
+        assertEquals(2, deadline.stats().get("Stubborn").timeouts());
+
+        release.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        // The late thread may still be unwinding; the next call must reach the player once it has
+        long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        PlayerAction action = PlayerAction.STAY;
+        while (action == PlayerAction.STAY && System.nanoTime() < until) {
+            action = deadline.decide(stubborn, info);
+        }
+        assertEquals(PlayerAction.HIT, action);
+        assertEquals(2, calls.get());
+    }
+
+    private static List<String> playGame(List<Player> players, EngineOptions options) {
+        RecordingListener listener = new RecordingListener();
+        GameEngine engine = new GameEngine(players, new Deck(9L), 200, listener, options);
+        while (engine.playRound().isEmpty()) {
+            // play until someone wins
+        }
+        return listener.events.stream().map(TurnEvent::toString).toList();
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // --- Test helpers ---
+
+    private static class RecordingListener implements GameEventListener {
+        final List<TurnEvent> events = new ArrayList<>();
+
+        @Override
+        public void onTurn(Player player, List<TurnEvent> turnEvents) {
+            events.addAll(turnEvents);
+        }
+    }
+
+    private static class HungPlayer implements Player {
+        private final String name;
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        HungPlayer(String name) { this.name = name; }
+
+        @Override
+        public PlayerAction decide(TurnInfo turnInfo) {
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return PlayerAction.HIT;
+        }
+
+        @Override public String getName() { return name; }
+    }
+}
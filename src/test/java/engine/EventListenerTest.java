@@ -0,0 +1,196 @@
+package engine;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.enums.PlayerAction;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.Deck;
+import com.flavia.domain.model.TurnInfo;
+import com.flavia.engine.AsyncEventListener;
+import com.flavia.engine.CompositeEventListener;
+import com.flavia.engine.GameEngine;
+import com.flavia.engine.GameEventListener;
+import com.flavia.engine.TurnEvent;
+import com.flavia.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventListenerTest {
+
+    // Tests if the engine publishes round, turn and scoring events in game order
+    @Test
+    void gameEngine_publishesEventsInOrder() {
+        Deck deck = new Deck(List.of(new Card(10, CardType.NUMBER)));
+        Player p1 = new HitOncePlayer("P1");
+        Player p2 = new StayPlayer("P2");
+        Player p3 = new StayPlayer("P3");
+        RecordingListener recorder = new RecordingListener();
+
+        GameEngine engine = new GameEngine(List.of(p1, p2, p3), deck, 10, recorder);
+        engine.playRound();
+
+        assertEquals(List.of(
+                "roundStart",
+                "turn P1 [CardDrawn]",
+                "turn P2 [PlayerStayed]",
+                "turn P3 [PlayerStayed]",
+                "turn P1 [PlayerStayed]",
+                "scoringStart",
+                "scored P1 10/10",
+                "won P1"
+        ), recorder.log);
+    }
+
+    // Tests if the async listener delivers every event, in order, off the game thread
+    @Test
+    void asyncListener_deliversAllEventsInOrder_onBackgroundThread() {
+        RecordingListener recorder = new RecordingListener();
+        Player p = new StayPlayer("P");
+
+        try (AsyncEventListener async = new AsyncEventListener(recorder, 16, 4)) {
+            for (int i = 0; i < 1_000; i++) {
+                async.onPlayerScored(p, i, i, false);
+            }
+            async.onRoundEnd();
+        }
+
+        assertEquals(1_001, recorder.log.size());
+        assertEquals("scored P 0/0", recorder.log.getFirst());
+        assertEquals("scored P 999/999", recorder.log.get(999));
+        assertEquals("roundEnd", recorder.log.getLast());
+        assertNotEquals(Thread.currentThread(), recorder.lastThread);
+    }
+
+    // Tests if a failing delegate does not stop the async consumer
+    @Test
+    void asyncListener_skipsFailingEvents_andKeepsRunning() {
+        RecordingListener recorder = new RecordingListener() {
+            @Override
+            public void onRoundStart() {
+                throw new IllegalStateException("boom");
+            }
+        };
+
+        AsyncEventListener async = new AsyncEventListener(recorder);
+        async.onRoundStart();
+        async.onRoundEnd();
+        async.close();
+
+        assertEquals(1, async.failedEvents());
+        assertEquals(List.of("roundEnd"), recorder.log);
+        assertThrows(IllegalStateException.class, async::onRoundStart);
+    }
+
+    // Tests if an event dropped by an interrupted publisher is counted instead of lost silently
+    @Test
+    void asyncListener_countsEventDroppedOnInterrupt() {
+        RecordingListener recorder = new RecordingListener();
+        AsyncEventListener async = new AsyncEventListener(recorder);
+
+        Thread.currentThread().interrupt();
+        async.onRoundStart();
+        assertTrue(Thread.interrupted());
+        async.onRoundEnd();
+        async.close();
+
+        assertEquals(1, async.failedEvents());
+        assertEquals(List.of("roundEnd"), recorder.log);
+    }
+
+    // Tests if every event published concurrently with close is either delivered or rejected
+    @Test
+    void asyncListener_closeRacingWithPublishers_losesNoEvent() throws InterruptedException {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            RecordingListener recorder = new RecordingListener();
+            AsyncEventListener async = new AsyncEventListener(recorder, 4, 2);
+            AtomicInteger accepted = new AtomicInteger();
+            List<Thread> publishers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                publishers.add(Thread.ofPlatform().start(() -> {
+                    try {
+                        for (int i = 0; i < 1_000; i++) {
+                            async.onRoundEnd();
+                            accepted.incrementAndGet();
+                        }
+                    } catch (IllegalStateException closed) {
+                        // expected once close() won
+                    }
+                }));
+            }
+            async.close();
+            for (Thread publisher : publishers) {
+                publisher.join();
+            }
+
+            assertEquals(accepted.get(), recorder.log.size());
+        }
+    }
+
+    // Tests if the composite forwards each event to all listeners
+    @Test
+    void compositeListener_forwardsToAllListeners() {
+        RecordingListener first = new RecordingListener();
+        RecordingListener second = new RecordingListener();
+        GameEventListener composite = new CompositeEventListener(first, second);
+
+        composite.onRoundStart();
+        composite.onGameWon(new StayPlayer("W"));
+
+        assertEquals(List.of("roundStart", "won W"), first.log);
+        assertEquals(first.log, second.log);
+    }
+
+    // --- Test helpers ---
+
+    private static class RecordingListener implements GameEventListener {
+        final List<String> log = Collections.synchronizedList(new ArrayList<>());
+        volatile Thread lastThread;
+
+        private void record(String entry) {
+            lastThread = Thread.currentThread();
+            log.add(entry);
+        }
+
+        @Override public void onRoundStart() { record("roundStart"); }
+        @Override public void onScoringStart() { record("scoringStart"); }
+        @Override public void onRoundEnd() { record("roundEnd"); }
+        @Override public void onGameWon(Player winner) { record("won " + winner.getName()); }
+
+        @Override
+        public void onTurn(Player player, List<TurnEvent> events) {
+            record("turn " + player.getName() + " "
+                    + events.stream().map(e -> e.getClass().getSimpleName()).toList());
+        }
+
+        @Override
+        public void onPlayerScored(Player player, int points, int totalPoints, boolean busted) {
+            record("scored " + player.getName() + " " + points + "/" + totalPoints);
+        }
+    }
+
+    private record StayPlayer(String name) implements Player {
+        @Override public PlayerAction decide(TurnInfo turnInfo) { return PlayerAction.STAY; }
+        @Override public String getName() { return name; }
+    }
+
+    private static class HitOncePlayer implements Player {
+        private final String name;
+        private boolean hit;
+
+        HitOncePlayer(String name) { this.name = name; }
+
+        @Override
+        public PlayerAction decide(TurnInfo turnInfo) {
+            if (hit) return PlayerAction.STAY;
+            hit = true;
+            return PlayerAction.HIT;
+        }
+
+        @Override public String getName() { return name; }
+    }
+}
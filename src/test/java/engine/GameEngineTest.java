@@ -5,12 +5,18 @@ import com.flavia.domain.enums.PlayerAction;
 import com.flavia.domain.model.Card;
 import com.flavia.domain.model.Deck;
 import com.flavia.domain.model.TurnInfo;
+import com.flavia.engine.EngineOptions;
 import com.flavia.engine.GameEngine;
+import com.flavia.engine.GameEventListener;
+import com.flavia.engine.GameStateSnapshot;
+import com.flavia.engine.TurnEvent;
+import com.flavia.player.SimpleBotPlayer;
 import com.flavia.player.Player;
 import com.flavia.player.TargetInfo;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
@@ -135,6 +141,81 @@ class GameEngineTest {
         assertDoesNotThrow(() -> new GameEngine(List.of(p1, filler1, filler2)));
     }
 
+    // Tests if replaying a seed produces exactly the same event sequence
+    @Test
+    void sameSeed_producesIdenticalTurnEventSequence() {
+        List<Player> players = List.of(
+                new SimpleBotPlayer("A", 10, false),
+                new SimpleBotPlayer("B", 15, false),
+                new SimpleBotPlayer("C", 20, false)
+        );
+
+        List<TurnEvent> first = playRecordedGame(players, 1234L);
+        List<TurnEvent> second = playRecordedGame(players, 1234L);
+
+        assertFalse(first.isEmpty());
+        assertEquals(first, second);
+    }
+
+    // Tests if low-allocation mode plays exactly the same game as the default mode
+    @Test
+    void lowAllocationMode_producesSameEventsAsDefaultMode() {
+        List<Player> players = List.of(
+                new SimpleBotPlayer("A", 10, false),
+                new SimpleBotPlayer("B", 15, false),
+                new SimpleBotPlayer("C", 20, false)
+        );
+
+        for (long seed = 0; seed < 20; seed++) {
+            assertEquals(
+                    playRecordedGame(players, seed, EngineOptions.defaults()),
+                    playRecordedGame(players, seed, EngineOptions.defaults().withLowAllocation(true)));
+        }
+    }
+
+    // Tests if restoring an engine snapshot undoes a played round, including scores
+    @Test
+    void restore_undoesPlayedRound() {
+        Deck deck = new Deck(List.of(
+                new Card(7, CardType.NUMBER),
+                new Card(3, CardType.NUMBER)
+        ));
+        ScriptedPlayer p1 = new ScriptedPlayer("P1", "P2",
+                PlayerAction.HIT, PlayerAction.STAY, PlayerAction.HIT, PlayerAction.STAY);
+        List<Player> players = List.of(p1, new ProbeStayPlayer("P2"), new ProbeStayPlayer("P3"));
+        GameEngine engine = new GameEngine(players, deck, 200, new GameEventListener() { });
+
+        GameStateSnapshot before = engine.snapshot();
+        engine.playRound();
+        assertEquals(7, engine.totalScore(p1));
+
+        engine.restore(before);
+        assertEquals(0, engine.totalScore(p1));
+        assertEquals(2, deck.drawPileSize());
+
+        // The same card comes up again
+        engine.playRound();
+        assertEquals(7, engine.totalScore(p1));
+    }
+
+    private static List<TurnEvent> playRecordedGame(List<Player> players, long seed) {
+        return playRecordedGame(players, seed, EngineOptions.defaults());
+    }
+
+    private static List<TurnEvent> playRecordedGame(List<Player> players, long seed, EngineOptions options) {
+        List<TurnEvent> recorded = new ArrayList<>();
+        GameEngine engine = new GameEngine(players, new Deck(seed), 200, new GameEventListener() {
+            @Override
+            public void onTurn(Player player, List<TurnEvent> events) {
+                recorded.addAll(events);
+            }
+        }, options);
+        while (engine.playRound().isEmpty()) {
+            // play until someone wins
+        }
+        return recorded;
+    }
+
     // --- Test helpers ---
 
     private static class ScriptedPlayer implements Player {
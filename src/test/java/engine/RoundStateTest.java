@@ -107,6 +107,84 @@ class RoundStateTest {
         assertFalse(state.hasActivePlayers(List.of(p1, p2)));
     }
 
+    // Tests if the active counter follows every status change, including re-activation
+    @Test
+    void hasActivePlayers_tracksStatusChangesInConstantTime() {
+        Player p1 = testPlayer("P1");
+        Player p2 = testPlayer("P2");
+        RoundState state = new RoundState();
+        state.initRound(List.of(p1, p2));
+
+        state.setStatus(0, PlayerStatus.STAYED);
+        assertTrue(state.hasActivePlayers());
+
+        state.setStatus(1, PlayerStatus.FROZEN);
+        assertFalse(state.hasActivePlayers());
+
+        state.setStatus(1, PlayerStatus.ACTIVE);
+        assertTrue(state.hasActivePlayers());
+
+        // Setting the same status twice must not count twice
+        state.setStatus(1, PlayerStatus.BUSTED);
+        state.setStatus(1, PlayerStatus.BUSTED);
+        assertFalse(state.hasActivePlayers());
+
+        state.initRound(List.of(p1, p2));
+        assertTrue(state.hasActivePlayers());
+    }
+
+    // Tests if seat and player based accessors refer to the same state
+    @Test
+    void seatAccessors_matchPlayerAccessors() {
+        Player p1 = testPlayer("P1");
+        Player p2 = testPlayer("P2");
+        RoundState state = new RoundState();
+        state.initRound(List.of(p1, p2));
+
+        state.hand(1).add(new Card(4, CardType.NUMBER));
+        state.setStatus(p2, PlayerStatus.STAYED);
+
+        assertEquals(1, state.seatOf(p2));
+        assertSame(p2, state.player(1));
+        assertSame(state.hand(p2), state.hand(1));
+        assertEquals(List.of(new Card(4, CardType.NUMBER)), state.handView(1));
+        assertEquals(PlayerStatus.STAYED, state.status(1));
+        assertThrows(IllegalArgumentException.class, () -> state.seatOf(testPlayer("P3")));
+    }
+
+    // Tests if restoring a snapshot brings back hands, statuses and the active counter
+    @Test
+    void restore_undoesRoundChanges() {
+        Player p1 = testPlayer("P1");
+        Player p2 = testPlayer("P2");
+        RoundState state = new RoundState();
+        state.initRound(List.of(p1, p2));
+        state.hand(0).add(new Card(4, CardType.NUMBER));
+
+        RoundState.Snapshot snapshot = state.snapshot();
+
+        state.hand(0).add(new Card(9, CardType.NUMBER));
+        state.hand(1).add(new Card(0, CardType.SECOND_CHANCE));
+        state.setStatus(0, PlayerStatus.BUSTED);
+        state.setStatus(1, PlayerStatus.STAYED);
+        assertFalse(state.hasActivePlayers());
+
+        state.restore(snapshot);
+
+        assertEquals(List.of(new Card(4, CardType.NUMBER)), state.hand(0));
+        assertEquals(4, state.hand(0).points());
+        assertTrue(state.hand(1).isEmpty());
+        assertEquals(PlayerStatus.ACTIVE, state.status(0));
+        assertTrue(state.hasActivePlayers());
+        assertEquals(List.of(new Card(4, CardType.NUMBER)), snapshot.hand(0));
+
+        // A fresh state takes over the seating of the snapshot
+        RoundState other = new RoundState();
+        other.restore(snapshot);
+        assertSame(p1, other.player(0));
+        assertEquals(List.of(new Card(4, CardType.NUMBER)), other.hand(p1));
+    }
+
     private Player testPlayer(String name) {
         return new Player() {
             @Override public PlayerAction decide(TurnInfo turnInfo) {
@@ -101,6 +101,20 @@ class ScoreBoardTest {
         assertEquals("P1", winner.get().getName());
     }
 
+    // Tests if scoring a player who has no seat on the board is rejected
+    @Test
+    void scoreRound_unseatedPlayer_throws() {
+        Player seated = testPlayer();
+        Player stranger = testPlayer();
+
+        RoundState state = new RoundState();
+        state.initRound(List.of(stranger));
+        ScoreBoard board = new ScoreBoard(List.of(seated), 200);
+
+        assertThrows(IllegalArgumentException.class, () -> board.scoreRound(List.of(stranger), state));
+        assertThrows(IllegalArgumentException.class, () -> board.totalScore(stranger));
+    }
+
     private Player testPlayer() {
         return new Player() {
             @Override public PlayerAction decide(TurnInfo turnInfo) {
@@ -3,8 +3,11 @@ package engine;
 import com.flavia.domain.enums.CardType;
 import com.flavia.domain.enums.PlayerAction;
 import com.flavia.domain.model.Card;
+import com.flavia.domain.model.CardCodec;
 import com.flavia.domain.model.Deck;
 import com.flavia.domain.model.TurnInfo;
+import com.flavia.domain.model.TurnView;
+import com.flavia.engine.EngineOptions;
 import com.flavia.engine.PlayerStatus;
 import com.flavia.engine.RoundState;
 import com.flavia.engine.TurnProcessor;
@@ -12,8 +15,11 @@ import com.flavia.engine.TurnResult;
 import com.flavia.engine.TurnEvent;
 import com.flavia.player.Player;
 import com.flavia.player.TargetInfo;
+import com.flavia.rules.HistogramProbabilityCalculator;
+import com.flavia.rules.SuccessProbabilityCalculator;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -218,8 +224,192 @@ class TurnProcessorTest {
         assertEquals(2, state.hand(target).size());
     }
 
+    // Tests if low-allocation mode reuses the result and hands out a live, read-only hand view
+    @Test
+    void lowAllocationMode_reusesResult_andPassesReadOnlyHandView() {
+        Deck deck = new Deck(List.of(
+                new Card(1, CardType.NUMBER),
+                new Card(2, CardType.NUMBER)
+        ));
+
+        RecordingHitPlayer p1 = new RecordingHitPlayer("P1");
+
+        RoundState state = new RoundState();
+        List<Player> players = List.of(p1);
+        state.initRound(players);
+
+        TurnProcessor tp = new TurnProcessor(deck, players, state, EngineOptions.defaults().withLowAllocation(true));
+
+        TurnResult first = tp.processTurn(p1);
+        assertEquals(List.of(new TurnEvent.CardDrawn(p1, new Card(1, CardType.NUMBER))), first.events());
+        TurnView firstInfo = p1.lastInfo;
+        TurnInfo frozenCopy = firstInfo.snapshot();
+
+        TurnResult second = tp.processTurn(p1);
+        assertSame(first, second);
+        assertSame(firstInfo, p1.lastInfo);
+        assertEquals(List.of(new TurnEvent.CardDrawn(p1, new Card(2, CardType.NUMBER))), second.events());
+
+        // The view follows the hand, the snapshot does not
+        assertEquals(List.of(new Card(1, CardType.NUMBER), new Card(2, CardType.NUMBER)), p1.lastInfo.myCards());
+        assertEquals(List.of(new Card(1, CardType.NUMBER)), frozenCopy.myCards());
+        assertEquals(1, p1.lastInfo.currentPoints());
+        assertThrows(UnsupportedOperationException.class, () -> p1.lastInfo.myCards().add(new Card(3, CardType.NUMBER)));
+        assertThrows(UnsupportedOperationException.class, () -> second.events().clear());
+    }
+
+    // Tests if low-allocation mode hands out the same event instance for a repeated situation
+    @Test
+    void lowAllocationMode_reusesEventInstances() {
+        Deck deck = new Deck(List.of());
+        Player p1 = new HitPlayer("P1");
+
+        RoundState state = new RoundState();
+        List<Player> players = List.of(p1);
+        state.initRound(players);
+
+        TurnProcessor tp = new TurnProcessor(deck, players, state, EngineOptions.defaults().withLowAllocation(true));
+
+        TurnEvent first = tp.processTurn(p1).events().getFirst();
+        TurnEvent second = tp.processTurn(p1).events().getFirst();
+
+        assertInstanceOf(TurnEvent.DeckEmpty.class, first);
+        assertSame(first, second);
+    }
+
+    // Tests if the turn info exposes the draw pile composition in both engine modes
+    @Test
+    void turnInfo_exposesDrawPileCounts_inBothModes() {
+        for (boolean lowAllocation : new boolean[] {false, true}) {
+            Deck deck = new Deck(List.of(
+                    new Card(7, CardType.NUMBER),
+                    new Card(7, CardType.NUMBER),
+                    new Card(0, CardType.FREEZE)
+            ));
+            RecordingHitPlayer p1 = new RecordingHitPlayer("P1");
+
+            RoundState state = new RoundState();
+            List<Player> players = List.of(p1);
+            state.initRound(players);
+
+            TurnProcessor tp = new TurnProcessor(deck, players, state,
+                    EngineOptions.defaults().withLowAllocation(lowAllocation));
+            tp.processTurn(p1);
+
+            // Counts are taken before the draw
+            assertTrue(p1.lastInfo.hasDrawPileCounts());
+            assertEquals(2, p1.lastInfo.drawPileCount(7));
+            assertEquals(1, p1.lastInfo.drawPileCount(CardCodec.FREEZE));
+            assertEquals(0, p1.lastInfo.drawPileCount(3));
+        }
+    }
+
+    // Tests if low-allocation mode computes the probability and secured names only when the player reads them
+    @Test
+    void lowAllocationMode_computesExpensiveFieldsOnlyOnRead() {
+        CountingCalculator calculator = new CountingCalculator();
+        Deck deck = new Deck(List.of(
+                new Card(2, CardType.NUMBER),
+                new Card(1, CardType.NUMBER),
+                new Card(1, CardType.NUMBER),
+                new Card(3, CardType.NUMBER)
+        ));
+        HitPlayer thresholdBot = new HitPlayer("Bot") {
+            @Override
+            public PlayerAction decideLive(TurnView turnInfo) {
+                return turnInfo.currentPoints() < 100 ? PlayerAction.HIT : PlayerAction.STAY;
+            }
+        };
+        ReadingPlayer reader = new ReadingPlayer("Reader");
+        HitPlayer stayer = new HitPlayer("Stayer") {
+            @Override
+            public PlayerAction decideLive(TurnView turnInfo) {
+                return PlayerAction.STAY;
+            }
+        };
+
+        RoundState state = new RoundState();
+        List<Player> players = List.of(thresholdBot, reader, stayer);
+        state.initRound(players);
+        TurnProcessor tp = new TurnProcessor(deck, players, state,
+                EngineOptions.defaults().withLowAllocation(true).withProbabilityCalculator(calculator));
+
+        tp.processTurn(thresholdBot);
+        tp.processTurn(reader);
+        tp.processTurn(stayer);
+        assertEquals(0, calculator.calls);
+
+        tp.processTurn(reader);
+        // Read twice, computed once: one of the two cards left is the reader's 1
+        assertEquals(1, calculator.calls);
+        assertEquals(0.5, reader.probability);
+        assertEquals(List.of("Stayer"), reader.securedNames);
+    }
+
+    // Tests if a player that only implements decide(TurnInfo) gets an immutable record in low-allocation mode
+    @Test
+    void lowAllocationMode_passesSnapshotRecord_toPlainPlayers() {
+        Deck deck = new Deck(List.of(new Card(4, CardType.NUMBER), new Card(5, CardType.NUMBER)));
+        List<TurnInfo> seen = new ArrayList<>();
+        HitPlayer plain = new HitPlayer("Plain") {
+            @Override
+            public PlayerAction decide(TurnInfo turnInfo) {
+                seen.add(turnInfo);
+                return PlayerAction.HIT;
+            }
+        };
+
+        RoundState state = new RoundState();
+        List<Player> players = List.of(plain);
+        state.initRound(players);
+        TurnProcessor tp = new TurnProcessor(deck, players, state, EngineOptions.defaults().withLowAllocation(true));
+        tp.processTurn(plain);
+        tp.processTurn(plain);
+
+        assertNotSame(seen.get(0), seen.get(1));
+        assertTrue(seen.get(0) instanceof TurnInfo(var cards, var points, var p, var remaining, var secured, var counts, var opponents)
+                && cards.isEmpty() && points == 0 && remaining == 2 && counts[4] == 1 && opponents == 0);
+        assertEquals(List.of(new Card(4, CardType.NUMBER)), seen.get(1).myCards());
+    }
+
     // --- Test helpers ---
 
+    private static class CountingCalculator implements SuccessProbabilityCalculator {
+        private final SuccessProbabilityCalculator delegate = new HistogramProbabilityCalculator();
+        int calls;
+
+        @Override
+        public double calculateSuccessProbability(List<Card> playerHand, List<Card> remainingDeck) {
+            calls++;
+            return delegate.calculateSuccessProbability(playerHand, remainingDeck);
+        }
+
+        @Override
+        public double calculateSuccessProbability(List<Card> playerHand, Deck deck) {
+            calls++;
+            return delegate.calculateSuccessProbability(playerHand, deck);
+        }
+    }
+
+    private static class ReadingPlayer extends HitPlayer {
+        double probability;
+        List<String> securedNames;
+
+        ReadingPlayer(String name) { super(name); }
+
+        @Override
+        public PlayerAction decideLive(TurnView turnInfo) {
+            // First turn: hit without looking at anything
+            if (turnInfo.currentPoints() == 0) {
+                return PlayerAction.HIT;
+            }
+            probability = turnInfo.successProbability();
+            assertEquals(probability, turnInfo.successProbability());
+            securedNames = List.copyOf(turnInfo.securedPlayerNames());
+            return PlayerAction.STAY;
+        }
+    }
+
     private static class HitPlayer implements Player {
         private final String name;
 
@@ -229,6 +419,25 @@ class TurnProcessorTest {
         @Override public String getName() { return name; }
     }
 
+    private static class RecordingHitPlayer extends HitPlayer {
+        TurnView lastInfo;
+
+        RecordingHitPlayer(String name) { super(name); }
+
+        @Override
+        public PlayerAction decide(TurnInfo turnInfo) {
+            lastInfo = turnInfo;
+            return super.decide(turnInfo);
+        }
+
+        // Keeps the live view itself, to check what low-allocation mode reuses
+        @Override
+        public PlayerAction decideLive(TurnView view) {
+            lastInfo = view;
+            return PlayerAction.HIT;
+        }
+    }
+
     private static class TargetingHitPlayer extends HitPlayer {
         private final String targetName;
 
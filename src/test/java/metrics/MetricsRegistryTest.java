@@ -0,0 +1,168 @@
+package metrics;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.enums.PlayerAction;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.Deck;
+import com.flavia.domain.model.TurnInfo;
+import com.flavia.engine.EngineOptions;
+import com.flavia.engine.GameEngine;
+import com.flavia.engine.GameEventListener;
+import com.flavia.engine.TurnEvent;
+import com.flavia.metrics.HistogramSnapshot;
+import com.flavia.metrics.LatencyHistogram;
+import com.flavia.metrics.Metric;
+import com.flavia.metrics.MetricsRegistry;
+import com.flavia.metrics.MetricsSnapshot;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    // Tests if the engine counts rounds, turns, draws and decisions in line with its events
+    @Test
+    void engine_recordsMetricsMatchingEvents() {
+        MetricsRegistry registry = new MetricsRegistry();
+        CountingListener listener = new CountingListener();
+        GameEngine engine = new GameEngine(bots(), new Deck(42L), 200, listener,
+                EngineOptions.defaults().withMetrics(registry));
+        while (engine.playRound().isEmpty()) {
+            // play until someone wins
+        }
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        assertEquals(listener.rounds, snapshot.count(Metric.ROUNDS));
+        assertEquals(listener.turns, snapshot.count(Metric.TURNS));
+        assertEquals(listener.draws, snapshot.count(Metric.DRAWS));
+        assertEquals(snapshot.count(Metric.DECISIONS), snapshot.count(Metric.PROBABILITY_CALCULATIONS));
+        assertEquals(snapshot.count(Metric.TURNS), snapshot.latency(Metric.TURNS).count());
+    }
+
+    // Tests if an empty draw pile refilled from the discard pile is counted as a refill
+    @Test
+    void draw_fromRefilledPile_countsRefill() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Deck deck = new Deck(List.of());
+        deck.discard(new Card(7, CardType.NUMBER));
+        GameEngine engine = new GameEngine(List.of(new HitOnce("A"), new HitOnce("B"), new HitOnce("C")), deck,
+                200, new GameEventListener() { }, EngineOptions.defaults().withMetrics(registry));
+
+        engine.playRound();
+
+        assertEquals(1, registry.count(Metric.DECK_REFILLS));
+        assertEquals(1, registry.count(Metric.DRAWS));
+    }
+
+    // Tests if recording metrics does not change the game
+    @Test
+    void metrics_doNotChangeGame() {
+        List<Player> players = bots();
+        assertEquals(playRecordedGame(players, EngineOptions.defaults()),
+                playRecordedGame(players, EngineOptions.defaults().withMetrics(new MetricsRegistry())));
+    }
+
+    // Tests if percentiles report the upper bound of the power-of-two bucket
+    @Test
+    void histogram_percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(5_000);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.count());
+        assertEquals(127, snapshot.percentileNanos(50));
+        assertEquals(127, snapshot.percentileNanos(99));
+        assertEquals(5_000, snapshot.percentileNanos(100));
+        assertEquals(149.0, snapshot.meanNanos());
+    }
+
+    // Tests if JSON and Prometheus exports are written with all metrics
+    @Test
+    void export_writesJsonAndPrometheus(@TempDir Path dir) throws IOException {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.increment(Metric.DRAWS);
+        registry.recordNanos(Metric.DECISIONS, 1_000);
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        snapshot.writeJson(dir.resolve("metrics.json"));
+        snapshot.writePrometheus(dir.resolve("metrics.prom"));
+
+        String json = Files.readString(dir.resolve("metrics.json"));
+        assertTrue(json.contains("\"draws\": 1"));
+        assertTrue(json.contains("\"player_decisions\": {\"count\": 1"));
+
+        String prometheus = Files.readString(dir.resolve("metrics.prom"));
+        assertTrue(prometheus.contains("# TYPE flip7_draws_total counter\nflip7_draws_total 1\n"));
+        assertTrue(prometheus.contains("flip7_player_decisions_seconds_bucket{le=\"0.000001023\"} 1\n"));
+        assertTrue(prometheus.contains("flip7_player_decisions_seconds_bucket{le=\"+Inf\"} 1\n"));
+        assertTrue(prometheus.contains("flip7_player_decisions_seconds_count 1\n"));
+    }
+
+    private static List<Player> bots() {
+        return List.of(
+                new SimpleBotPlayer("A", 10, false),
+                new SimpleBotPlayer("B", 15, false),
+                new SimpleBotPlayer("C", 20, false)
+        );
+    }
+
+    private static List<TurnEvent> playRecordedGame(List<Player> players, EngineOptions options) {
+        List<TurnEvent> recorded = new ArrayList<>();
+        GameEngine engine = new GameEngine(players, new Deck(7L), 200, new GameEventListener() {
+            @Override
+            public void onTurn(Player player, List<TurnEvent> events) {
+                recorded.addAll(events);
+            }
+        }, options);
+        while (engine.playRound().isEmpty()) {
+            // play until someone wins
+        }
+        return recorded;
+    }
+
+    // --- Test helpers ---
+
+    private static class CountingListener implements GameEventListener {
+        long rounds;
+        long turns;
+        long draws;
+
+        @Override public void onRoundStart() { rounds++; }
+
+        @Override
+        public void onTurn(Player player, List<TurnEvent> events) {
+            turns++;
+            for (TurnEvent event : events) {
+                if (event instanceof TurnEvent.CardDrawn) draws++;
+            }
+        }
+    }
+
+    private static class HitOnce implements Player {
+        private final String name;
+        private boolean hit;
+
+        HitOnce(String name) { this.name = name; }
+
+        @Override
+        public PlayerAction decide(TurnInfo turnInfo) {
+            if (hit) return PlayerAction.STAY;
+            hit = true;
+            return PlayerAction.HIT;
+        }
+
+        @Override public String getName() { return name; }
+    }
+}
@@ -0,0 +1,159 @@
+package player;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.enums.PlayerAction;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.CardCodec;
+import com.flavia.domain.model.TurnInfo;
+import com.flavia.player.ExpectedValueBotPlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpectedValueBotPlayerTest {
+
+    // Tests if the bot stays when every remaining card is a duplicate
+    @Test
+    void decide_stays_whenEveryDrawBusts() {
+        ExpectedValueBotPlayer bot = new ExpectedValueBotPlayer("EV");
+        TurnInfo info = info(List.of(number(5)), 5, counts(5, 4));
+
+        assertEquals(PlayerAction.STAY, bot.decide(info));
+        assertEquals(0.0, bot.expectedHitValue(info), 1e-9);
+    }
+
+    // Tests if the bot hits when no remaining card can bust it
+    @Test
+    void decide_hits_whenNoDrawCanBust() {
+        ExpectedValueBotPlayer bot = new ExpectedValueBotPlayer("EV");
+        TurnInfo info = info(List.of(number(5)), 5, counts(7, 2));
+
+        assertEquals(PlayerAction.HIT, bot.decide(info));
+    }
+
+    // Tests if the one-step expected value weighs bust and gain by the composition
+    @Test
+    void expectedHitValue_withoutLookahead_isWeightedAverage() {
+        ExpectedValueBotPlayer bot = new ExpectedValueBotPlayer("EV", 0, 16);
+        int[] counts = new int[CardCodec.CARD_KINDS];
+        counts[5] = 1;
+        counts[7] = 1;
+
+        // 1/2 bust (0) + 1/2 * (5 + 7)
+        assertEquals(6.0, bot.expectedHitValue(info(List.of(number(5)), 5, counts)), 1e-9);
+    }
+
+    // Tests if lookahead uses the second draw: 5 in hand, deck {7, 8}, both safe
+    @Test
+    void expectedHitValue_withLookahead_drawsAgainWhenSafe() {
+        ExpectedValueBotPlayer bot = new ExpectedValueBotPlayer("EV", 1, 16);
+        int[] counts = new int[CardCodec.CARD_KINDS];
+        counts[7] = 1;
+        counts[8] = 1;
+
+        assertEquals(20.0, bot.expectedHitValue(info(List.of(number(5)), 5, counts)), 1e-9);
+    }
+
+    // Tests if a Second Chance in hand turns a certain bust into a neutral draw
+    @Test
+    void expectedHitValue_countsSecondChanceAsSavedBust() {
+        ExpectedValueBotPlayer bot = new ExpectedValueBotPlayer("EV", 0, 16);
+        TurnInfo info = info(List.of(number(5), new Card(0, CardType.SECOND_CHANCE)), 5, counts(5, 3));
+
+        assertEquals(5.0, bot.expectedHitValue(info), 1e-9);
+        assertEquals(PlayerAction.STAY, bot.decide(info));
+    }
+
+    // Tests if Freeze banks the points without an active opponent and is passed on otherwise
+    @Test
+    void expectedHitValue_freeze_banksPointsOnlyWithoutOpponents() {
+        ExpectedValueBotPlayer bot = new ExpectedValueBotPlayer("EV", 1, 16);
+        int[] counts = counts(7, 1);
+        counts[CardCodec.FREEZE] = 1;
+
+        // 1/2 * 12 + 1/2 * 5 (frozen with 5 points)
+        assertEquals(8.5, bot.expectedHitValue(info(List.of(number(5)), 5, counts, 0)), 1e-9);
+        // Freeze goes to the opponent, then the 7 is drawn: 12 either way
+        assertEquals(12.0, bot.expectedHitValue(info(List.of(number(5)), 5, counts, 1)), 1e-9);
+    }
+
+    // Tests if Flip Three on an opponent takes the rest of the pile away from the player
+    @Test
+    void expectedHitValue_flipThree_removesCardsForOpponent() {
+        ExpectedValueBotPlayer bot = new ExpectedValueBotPlayer("EV", 1, 16);
+        int[] counts = counts(7, 1);
+        counts[5] = 1;
+        counts[CardCodec.FLIP_THREE] = 1;
+
+        // Opponent takes 5 and 7 (5 points kept), 5 busts, 7 gives 12 and then stays
+        assertEquals(17.0 / 3, bot.expectedHitValue(info(List.of(number(5)), 5, counts, 1)), 1e-9);
+        // Without opponent: Flip Three is a free card, the next draw is worth (0 + 12) / 2
+        assertEquals(6.0, bot.expectedHitValue(info(List.of(number(5)), 5, counts, 0)), 1e-9);
+    }
+
+    // Tests if a Freeze-heavy pile turns a hit into a stay
+    @Test
+    void decide_freezeHeavyPile_stays() {
+        ExpectedValueBotPlayer bot = new ExpectedValueBotPlayer("EV");
+        List<Card> hand = List.of(number(2), number(4), number(3));
+        int[] counts = new int[CardCodec.CARD_KINDS];
+        counts[0] = 1;
+        counts[3] = 1;
+        counts[6] = 1;
+        counts[CardCodec.SECOND_CHANCE] = 1;
+
+        assertEquals(PlayerAction.HIT, bot.decide(info(hand, 9, counts, 0)));
+        counts[CardCodec.FREEZE] = 5;
+        assertEquals(PlayerAction.STAY, bot.decide(info(hand, 9, counts, 0)));
+        assertEquals(PlayerAction.STAY, bot.decide(info(hand, 9, counts, 2)));
+    }
+
+    // Tests if the bot falls back to the standard deck when the composition is unknown
+    @Test
+    void decide_usesStandardDeck_whenCompositionUnknown() {
+        ExpectedValueBotPlayer bot = new ExpectedValueBotPlayer("EV");
+
+        assertEquals(PlayerAction.HIT, bot.decide(new TurnInfo(List.of(), 0, 1.0, 99, List.of())));
+        TurnInfo greedy = new TurnInfo(List.of(number(12), number(11), number(10), number(9), number(8)),
+                50, 0.3, 89, List.of());
+        assertEquals(PlayerAction.STAY, bot.decide(greedy));
+    }
+
+    // Tests if a repeated decision is answered from the cache
+    @Test
+    void decide_reusesCachedValues() {
+        ExpectedValueBotPlayer bot = new ExpectedValueBotPlayer("EV");
+        TurnInfo info = new TurnInfo(List.of(number(3)), 3, 0.9, 93, List.of());
+
+        bot.decide(info);
+        long missesAfterFirst = bot.cacheMisses();
+        bot.decide(info);
+
+        assertEquals(missesAfterFirst, bot.cacheMisses());
+        assertTrue(bot.cacheHits() > 0);
+    }
+
+    // --- Test helpers ---
+
+    private static Card number(int value) {
+        return new Card(value, CardType.NUMBER);
+    }
+
+    private static int[] counts(int code, int count) {
+        int[] counts = new int[CardCodec.CARD_KINDS];
+        counts[code] = count;
+        return counts;
+    }
+
+    private static TurnInfo info(List<Card> hand, int points, int[] counts) {
+        return info(hand, points, counts, -1);
+    }
+
+    private static TurnInfo info(List<Card> hand, int points, int[] counts, int activeOpponents) {
+        int remaining = 0;
+        for (int count : counts) remaining += count;
+        return new TurnInfo(hand, points, 0.5, remaining, List.of(), counts, activeOpponents);
+    }
+}
@@ -0,0 +1,100 @@
+package player;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.enums.PlayerAction;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.CardCodec;
+import com.flavia.domain.model.TurnInfo;
+import com.flavia.player.MonteCarloBotPlayer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloBotPlayerTest {
+
+    // Tests if the bot stays when every remaining card is a duplicate
+    @Test
+    void decide_stays_whenEveryDrawBusts() {
+        MonteCarloBotPlayer bot = bot(500, Duration.ofSeconds(5));
+        TurnInfo info = info(List.of(number(5)), 5, counts(5, 4));
+
+        assertEquals(0.0, bot.estimateHitValue(info), 1e-9);
+        assertEquals(PlayerAction.STAY, bot.decide(info));
+    }
+
+    // Tests if the bot hits when no remaining card can bust it
+    @Test
+    void decide_hits_whenNoDrawCanBust() {
+        MonteCarloBotPlayer bot = bot(500, Duration.ofSeconds(5));
+        TurnInfo info = info(List.of(number(5)), 5, counts(7, 1));
+
+        // One 7 left: draw it, then the pile is empty
+        assertEquals(12.0, bot.estimateHitValue(info), 1e-9);
+        assertEquals(PlayerAction.HIT, bot.decide(info));
+    }
+
+    // Tests if the estimate converges to the exact one-step value (1/2 bust, 1/2 plus 7)
+    @Test
+    void estimateHitValue_convergesToExpectedValue() {
+        MonteCarloBotPlayer bot = bot(20_000, Duration.ofSeconds(30));
+        int[] counts = new int[CardCodec.CARD_KINDS];
+        counts[5] = 1;
+        counts[7] = 1;
+
+        // After drawing the 7 only the duplicate is left, so the playout stays
+        assertEquals(6.0, bot.estimateHitValue(info(List.of(number(5)), 5, counts)), 0.3);
+        assertEquals(20_000, bot.totalPlayouts());
+        assertTrue(bot.playoutsPerSecond() > 0);
+    }
+
+    // Tests if the same seed gives the same estimate
+    @Test
+    void estimateHitValue_isReproducibleForSeed() {
+        TurnInfo info = new TurnInfo(List.of(number(8), number(3)), 11, 0.8, 92, List.of());
+
+        double first = bot(1_000, Duration.ofSeconds(30)).estimateHitValue(info);
+        double second = bot(1_000, Duration.ofSeconds(30)).estimateHitValue(info);
+
+        assertEquals(first, second);
+    }
+
+    // Tests if the time budget stops the playouts early
+    @Test
+    void estimateHitValue_respectsTimeBudget() {
+        MonteCarloBotPlayer bot = bot(50_000_000, Duration.ofMillis(20));
+        TurnInfo info = new TurnInfo(List.of(number(4)), 4, 0.9, 93, List.of());
+
+        long start = System.nanoTime();
+        bot.decide(info);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(bot.totalPlayouts() < 50_000_000);
+        assertTrue(elapsedMillis < 2_000, "took " + elapsedMillis + " ms");
+    }
+
+    // --- Test helpers ---
+
+    private static MonteCarloBotPlayer bot(int playouts, Duration budget) {
+        return new MonteCarloBotPlayer("MC", playouts, budget, ForkJoinPool.commonPool(), 42L);
+    }
+
+    private static Card number(int value) {
+        return new Card(value, CardType.NUMBER);
+    }
+
+    private static int[] counts(int code, int count) {
+        int[] counts = new int[CardCodec.CARD_KINDS];
+        counts[code] = count;
+        return counts;
+    }
+
+    private static TurnInfo info(List<Card> hand, int points, int[] counts) {
+        int remaining = 0;
+        for (int count : counts) remaining += count;
+        return new TurnInfo(hand, points, 0.5, remaining, List.of(), counts);
+    }
+}
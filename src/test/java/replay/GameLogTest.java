@@ -0,0 +1,174 @@
+package replay;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.model.Card;
+import com.flavia.engine.TurnEvent;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import com.flavia.player.TargetInfo;
+import com.flavia.replay.GameLogReader;
+import com.flavia.replay.GameLogWriter;
+import com.flavia.replay.GameReplayer;
+import com.flavia.replay.LoggedEvent;
+import com.flavia.replay.LoggedGame;
+import com.flavia.simulation.GameSimulator;
+import com.flavia.simulation.PlayerResult;
+import com.flavia.simulation.SimulationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLogTest {
+
+    @TempDir
+    Path dir;
+
+    // Tests if logged games are read back with ids, seeds and the simulated winners
+    @Test
+    void writeAndRead_roundTripsSimulatedGames() throws IOException {
+        Path file = dir.resolve("games.f7log");
+        GameSimulator simulator = new GameSimulator(lineup(), 99L);
+
+        SimulationResult result;
+        try (GameLogWriter writer = new GameLogWriter(file)) {
+            result = simulator.run(200, writer);
+            assertEquals(200, writer.gamesWritten());
+        }
+
+        List<LoggedGame> games;
+        try (GameLogReader reader = new GameLogReader(file)) {
+            games = reader.readAll();
+        }
+
+        assertEquals(200, games.size());
+        assertEquals(0, games.getFirst().gameId());
+        assertEquals(GameSimulator.gameSeed(99L, 7), games.get(7).seed());
+        assertEquals(List.of("A", "B", "C"), games.getFirst().playerNames());
+        for (PlayerResult player : result.players()) {
+            long wins = games.stream().filter(g -> g.winnerName().equals(Optional.of(player.name()))).count();
+            assertEquals(player.wins(), wins, player.name());
+        }
+        assertEquals(result.totalRounds(), games.stream().mapToLong(LoggedGame::rounds).sum());
+    }
+
+    // Tests if a replay through the engine produces exactly the logged game again
+    @Test
+    void replay_reproducesLoggedGames() throws IOException {
+        Path original = dir.resolve("original.f7log");
+        try (GameLogWriter writer = new GameLogWriter(original)) {
+            new GameSimulator(lineup(), 5L).run(100, writer);
+        }
+        List<LoggedGame> games = readAll(original);
+
+        Path replayed = dir.resolve("replayed.f7log");
+        try (GameLogWriter writer = new GameLogWriter(replayed)) {
+            GameReplayer replayer = new GameReplayer();
+            for (LoggedGame game : games) {
+                Optional<Player> winner = replayer.replayInto(game, writer);
+                assertEquals(game.winnerName(), winner.map(Player::getName));
+            }
+        }
+
+        assertEquals(games, readAll(replayed));
+        // Flip Three targets other than the default first target were replayed as well
+        assertTrue(games.stream().flatMap(g -> g.turns().stream()).flatMap(t -> t.events().stream())
+                .anyMatch(e -> e.kind() == LoggedEvent.Kind.ACTION_CARD_PLAYED));
+    }
+
+    // Tests if reopening a log appends games instead of overwriting it
+    @Test
+    void writer_appendsToExistingLog() throws IOException {
+        Path file = dir.resolve("append.f7log");
+        try (GameLogWriter writer = new GameLogWriter(file)) {
+            new GameSimulator(lineup(), 1L).run(3, writer);
+        }
+        try (GameLogWriter writer = new GameLogWriter(file)) {
+            new GameSimulator(lineup(), 2L).run(2, writer);
+        }
+
+        List<LoggedGame> games = readAll(file);
+        assertEquals(5, games.size());
+        assertEquals(GameSimulator.gameSeed(2L, 1), games.getLast().seed());
+    }
+
+    // Tests if logged events turn back into the original TurnEvents
+    @Test
+    void loggedTurn_rebuildsTurnEvents() throws IOException {
+        Path file = dir.resolve("events.f7log");
+        List<Player> players = lineup();
+        List<TurnEvent> firstTurn = List.of(
+                new TurnEvent.CardDrawn(players.get(0), new Card(0, CardType.FLIP_THREE)),
+                new TurnEvent.ActionCardPlayed(players.get(0), new Card(0, CardType.FLIP_THREE), players.get(2)),
+                new TurnEvent.CardDrawn(players.get(2), new Card(12, CardType.NUMBER)),
+                new TurnEvent.DeckEmpty()
+        );
+        try (GameLogWriter writer = new GameLogWriter(file)) {
+            writer.beginGame(42, 7L, 200, players);
+            writer.onRoundStart();
+            writer.onTurn(players.get(0), firstTurn);
+            writer.endGame();
+        }
+
+        LoggedGame game = readAll(file).getFirst();
+        assertEquals(42, game.gameId());
+        assertEquals(Optional.empty(), game.winnerName());
+        assertEquals(firstTurn, game.turns().getFirst().toTurnEvents(players));
+        assertEquals(1, game.turns().getFirst().round());
+    }
+
+    // Tests if the binary log stays far smaller than the console text of the same games
+    @Test
+    void log_isCompact() throws IOException {
+        Path file = dir.resolve("size.f7log");
+        try (GameLogWriter writer = new GameLogWriter(file)) {
+            new GameSimulator(lineup(), 3L).run(1_000, writer);
+        }
+
+        long bytesPerGame = Files.size(file) / 1_000;
+        assertTrue(bytesPerGame < 1_000, bytesPerGame + " bytes per game");
+    }
+
+    // Tests if a file without the log header is rejected
+    @Test
+    void reader_rejectsForeignFile() throws IOException {
+        Path file = dir.resolve("foreign.txt");
+        Files.writeString(file, "hello world");
+
+        assertThrows(IOException.class, () -> new GameLogReader(file));
+    }
+
+    // --- Test helpers ---
+
+    private static List<Player> lineup() {
+        return List.of(
+                new SimpleBotPlayer("A", 15, false),
+                new LastTargetBot("B", 20),
+                new SimpleBotPlayer("C", 25, false)
+        );
+    }
+
+    private static List<LoggedGame> readAll(Path file) throws IOException {
+        try (GameLogReader reader = new GameLogReader(file)) {
+            return reader.readAll();
+        }
+    }
+
+    // Picks the last eligible target, so replays cannot pass by falling back to the default
+    private static class LastTargetBot extends SimpleBotPlayer {
+        LastTargetBot(String name, int hitUntil) {
+            super(name, hitUntil, false);
+        }
+
+        @Override
+        public String chooseTarget(TargetInfo info) {
+            return info.eligibleTargetNames().getLast();
+        }
+    }
+}
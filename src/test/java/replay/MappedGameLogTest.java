@@ -0,0 +1,187 @@
+package replay;
+
+import com.flavia.engine.TurnEvent;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import com.flavia.replay.GameLogIndex;
+import com.flavia.replay.GameLogReader;
+import com.flavia.replay.GameLogWriter;
+import com.flavia.replay.GameView;
+import com.flavia.replay.LoggedGame;
+import com.flavia.replay.MappedGameLog;
+import com.flavia.simulation.GameSimulator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedGameLogTest {
+
+    private static final List<Player> PLAYERS = List.of(
+            new SimpleBotPlayer("A", 15, false),
+            new SimpleBotPlayer("B", 20, false),
+            new SimpleBotPlayer("C", 25, false)
+    );
+
+    @TempDir
+    Path dir;
+
+    // Tests if game #n from the index matches the n-th game of a sequential read
+    @Test
+    void game_seeksByIndex() throws IOException {
+        Path log = dir.resolve("games.f7log");
+        Path index = dir.resolve("games.f7idx");
+        writeGames(log, index, 300, 21L);
+        List<LoggedGame> expected = readAll(log);
+
+        try (MappedGameLog mapped = MappedGameLog.open(log, index)) {
+            assertEquals(300, mapped.gameCount());
+            for (int n : new int[] {0, 1, 150, 299}) {
+                GameView game = mapped.game(n);
+                assertEquals(expected.get(n), game.toLoggedGame());
+                assertEquals(n, game.gameId());
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> mapped.game(300));
+            assertEquals(Optional.of(42L), mapped.findGame(42).map(GameView::gameId));
+            assertEquals(Optional.empty(), mapped.findGame(1_000));
+        }
+    }
+
+    // Tests if filtering by winner returns exactly the games that player won
+    @Test
+    void gamesWonBy_filtersWithIndex() throws IOException {
+        Path log = dir.resolve("games.f7log");
+        Path index = dir.resolve("games.f7idx");
+        writeGames(log, index, 300, 22L);
+
+        List<Long> expected = readAll(log).stream()
+                .filter(g -> g.winnerName().equals(Optional.of("B")))
+                .map(LoggedGame::gameId)
+                .toList();
+
+        try (MappedGameLog mapped = MappedGameLog.open(log, index)) {
+            assertFalse(expected.isEmpty());
+            assertEquals(expected, mapped.gamesWonBy("B").map(GameView::gameId).toList());
+        }
+    }
+
+    // Tests if a log without index can be streamed, and a rebuilt index equals the written one
+    @Test
+    void games_streamWithoutIndex_andRebuildMatches() throws IOException {
+        Path log = dir.resolve("games.f7log");
+        Path index = dir.resolve("games.f7idx");
+        writeGames(log, index, 100, 23L);
+
+        try (MappedGameLog mapped = MappedGameLog.open(log)) {
+            assertFalse(mapped.hasIndex());
+            assertEquals(readAll(log), mapped.games().map(GameView::toLoggedGame).toList());
+            assertThrows(IllegalStateException.class, () -> mapped.game(0));
+        }
+
+        Path rebuilt = dir.resolve("rebuilt.f7idx");
+        GameLogIndex.rebuild(log, rebuilt);
+        assertArrayEquals(Files.readAllBytes(index), Files.readAllBytes(rebuilt));
+    }
+
+    // Tests if events are rebuilt lazily from the mapped record
+    @Test
+    void events_matchLoggedTurns() throws IOException {
+        Path log = dir.resolve("games.f7log");
+        Path index = dir.resolve("games.f7idx");
+        writeGames(log, index, 5, 24L);
+        LoggedGame expected = readAll(log).get(3);
+
+        try (MappedGameLog mapped = MappedGameLog.open(log, index)) {
+            List<TurnEvent> events = mapped.game(3).events(PLAYERS).toList();
+            List<TurnEvent> fromReader = expected.turns().stream()
+                    .flatMap(t -> t.toTurnEvents(PLAYERS).stream())
+                    .toList();
+            assertEquals(fromReader, events);
+            // Only the first turn is decoded here
+            assertEquals(expected.turns().getFirst(), mapped.game(3).turns().findFirst().orElseThrow());
+        }
+    }
+
+    // Tests if appending with an index keeps offsets valid, and a missing index is rebuilt
+    @Test
+    void writer_appendsIndexEntries() throws IOException {
+        Path log = dir.resolve("games.f7log");
+        Path index = dir.resolve("games.f7idx");
+        try (GameLogWriter writer = new GameLogWriter(log)) {
+            new GameSimulator(PLAYERS, 1L).run(3, writer);
+        }
+        writeGames(log, index, 2, 2L);
+
+        try (MappedGameLog mapped = MappedGameLog.open(log, index)) {
+            assertEquals(5, mapped.gameCount());
+            assertEquals(GameSimulator.gameSeed(1L, 2), mapped.game(2).seed());
+            assertEquals(GameSimulator.gameSeed(2L, 1), mapped.game(4).seed());
+            assertEquals(readAll(log), mapped.games().map(GameView::toLoggedGame).toList());
+        }
+    }
+
+    // Tests if an index that no longer ends at the end of the log is rebuilt before appending
+    @Test
+    void writer_rebuildsStaleIndex() throws IOException {
+        Path log = dir.resolve("games.f7log");
+        Path index = dir.resolve("games.f7idx");
+        writeGames(log, index, 2, 3L);
+        try (GameLogWriter writer = new GameLogWriter(log)) {
+            new GameSimulator(PLAYERS, 4L).run(3, writer);
+        }
+        writeGames(log, index, 1, 5L);
+
+        Path rebuilt = dir.resolve("rebuilt.f7idx");
+        GameLogIndex.rebuild(log, rebuilt);
+        assertArrayEquals(Files.readAllBytes(rebuilt), Files.readAllBytes(index));
+
+        // A torn last entry is detected as well
+        byte[] bytes = Files.readAllBytes(index);
+        Files.write(index, Arrays.copyOf(bytes, bytes.length - 7));
+        writeGames(log, index, 1, 6L);
+        try (MappedGameLog mapped = MappedGameLog.open(log, index)) {
+            assertEquals(7, mapped.gameCount());
+            assertEquals(readAll(log), mapped.games().map(GameView::toLoggedGame).toList());
+        }
+    }
+
+    // Tests if an index left over from a deleted log is started afresh with the new log
+    @Test
+    void writer_leftoverIndex_freshLog_startsNewIndex() throws IOException {
+        Path log = dir.resolve("games.f7log");
+        Path index = dir.resolve("games.f7idx");
+        writeGames(log, index, 5, 7L);
+        Files.delete(log);
+
+        writeGames(log, index, 2, 8L);
+
+        try (MappedGameLog mapped = MappedGameLog.open(log, index)) {
+            assertEquals(2, mapped.gameCount());
+            assertEquals(readAll(log), List.of(mapped.game(0).toLoggedGame(), mapped.game(1).toLoggedGame()));
+        }
+        Path rebuilt = dir.resolve("rebuilt.f7idx");
+        GameLogIndex.rebuild(log, rebuilt);
+        assertArrayEquals(Files.readAllBytes(rebuilt), Files.readAllBytes(index));
+    }
+
+    // --- Test helpers ---
+
+    private static void writeGames(Path log, Path index, int games, long seed) throws IOException {
+        try (GameLogWriter writer = new GameLogWriter(log, index)) {
+            new GameSimulator(PLAYERS, seed).run(games, writer);
+        }
+    }
+
+    private static List<LoggedGame> readAll(Path file) throws IOException {
+        try (GameLogReader reader = new GameLogReader(file)) {
+            return reader.readAll();
+        }
+    }
+}
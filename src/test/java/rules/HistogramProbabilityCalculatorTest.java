@@ -0,0 +1,72 @@
+package rules;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.Deck;
+import com.flavia.exceptions.DeckEmptyException;
+import com.flavia.rules.DefaultProbabilityCalculator;
+import com.flavia.rules.HistogramProbabilityCalculator;
+import com.flavia.rules.SuccessProbabilityCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HistogramProbabilityCalculatorTest {
+
+    private final SuccessProbabilityCalculator histogram = new HistogramProbabilityCalculator();
+    private final SuccessProbabilityCalculator reference = new DefaultProbabilityCalculator();
+
+    // Tests if the histogram result matches the list scan while the deck is drawn down and refilled
+    @Test
+    void deckOverload_matchesReferenceCalculator_acrossDrawsAndRefills() throws DeckEmptyException {
+        Deck deck = new Deck(3L);
+        List<Card> hand = new ArrayList<>();
+        List<Card> played = new ArrayList<>();
+
+        for (int i = 0; i < 300; i++) {
+            assertEquals(
+                    reference.calculateSuccessProbability(hand, deck.viewDrawPile()),
+                    histogram.calculateSuccessProbability(hand, deck));
+
+            Card drawn = deck.draw();
+            played.add(drawn);
+            if (drawn.type() == CardType.NUMBER && hand.size() < 4 && !hand.contains(drawn)) {
+                hand.add(drawn);
+            }
+            if (deck.drawPileSize() == 0) {
+                deck.discardAll(played);
+                played.clear();
+                hand.clear();
+            }
+        }
+    }
+
+    // Tests if the list-based fallback gives the same answers as the reference
+    @Test
+    void listOverload_matchesReferenceCalculator() {
+        List<Card> hand = List.of(new Card(5, CardType.NUMBER), new Card(7, CardType.NUMBER));
+        List<Card> remaining = List.of(
+                new Card(5, CardType.NUMBER),
+                new Card(5, CardType.NUMBER),
+                new Card(8, CardType.NUMBER),
+                new Card(0, CardType.FREEZE)
+        );
+
+        assertEquals(0.5, histogram.calculateSuccessProbability(hand, remaining));
+        assertEquals(0.0, histogram.calculateSuccessProbability(hand, List.of()));
+        assertEquals(1.0, histogram.calculateSuccessProbability(
+                List.of(new Card(0, CardType.SECOND_CHANCE), new Card(5, CardType.NUMBER)), remaining));
+    }
+
+    // Tests if an empty draw pile yields zero, even when the discard pile could be reshuffled
+    @Test
+    void deckOverload_emptyDrawPile_isZero() {
+        Deck deck = new Deck(List.of());
+        deck.discardAll(List.of(new Card(3, CardType.NUMBER)));
+
+        assertEquals(0.0, histogram.calculateSuccessProbability(List.of(), deck));
+    }
+}
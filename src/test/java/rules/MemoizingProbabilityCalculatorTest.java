@@ -0,0 +1,130 @@
+package rules;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.Deck;
+import com.flavia.domain.model.Hand;
+import com.flavia.engine.EngineOptions;
+import com.flavia.engine.GameEngine;
+import com.flavia.engine.NoOpEventListener;
+import com.flavia.exceptions.DeckEmptyException;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import com.flavia.rules.DefaultProbabilityCalculator;
+import com.flavia.rules.HistogramProbabilityCalculator;
+import com.flavia.rules.MemoizingProbabilityCalculator;
+import com.flavia.rules.SuccessProbabilityCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoizingProbabilityCalculatorTest {
+
+    // Tests if the deck version changes on draw, discard, shuffle and restore, but not on reads
+    @Test
+    void deckVersion_changesOnEveryPileChange() throws DeckEmptyException {
+        Deck deck = new Deck(1L);
+        long version = deck.version();
+
+        deck.drawPileCount(5);
+        deck.viewDrawPile().size();
+        assertEquals(version, deck.version());
+
+        Card card = deck.draw();
+        assertNotEquals(version, version = deck.version());
+        deck.discard(card);
+        assertNotEquals(version, version = deck.version());
+        deck.shuffle();
+        assertNotEquals(version, version = deck.version());
+        deck.restore(deck.snapshot());
+        assertNotEquals(version, deck.version());
+    }
+
+    // Tests if a refill from the discard pile changes the version
+    @Test
+    void deckVersion_changesOnRefill() throws DeckEmptyException {
+        Deck deck = new Deck(List.of(Card.number(1)));
+        deck.discard(deck.draw());
+        long version = deck.version();
+
+        deck.draw();
+
+        assertNotEquals(version, deck.version());
+    }
+
+    // Tests if a repeated query on an unchanged deck is a hit and a changed deck is a miss
+    @Test
+    void sameDeckVersionAndHand_isServedFromCache() throws DeckEmptyException {
+        MemoizingProbabilityCalculator memo = new MemoizingProbabilityCalculator(new HistogramProbabilityCalculator());
+        Deck deck = new Deck(2L);
+        Hand hand = new Hand();
+        hand.add(Card.number(7));
+        List<Card> sameValues = List.of(Card.number(7), Card.of(CardType.FREEZE));
+
+        double first = memo.calculateSuccessProbability(hand, deck);
+        assertEquals(first, memo.calculateSuccessProbability(sameValues, deck));
+        assertEquals(1, memo.hits());
+        assertEquals(1, memo.misses());
+
+        deck.draw();
+        memo.calculateSuccessProbability(hand, deck);
+        assertEquals(2, memo.misses());
+
+        hand.add(Card.of(CardType.SECOND_CHANCE));
+        assertEquals(1.0, memo.calculateSuccessProbability(hand, deck));
+        assertEquals(3, memo.misses());
+        assertEquals(0.25, memo.hitRate());
+    }
+
+    // Tests if cached results always match the wrapped calculator over a full game
+    @Test
+    void results_matchDelegate_acrossGame() throws DeckEmptyException {
+        SuccessProbabilityCalculator reference = new DefaultProbabilityCalculator();
+        MemoizingProbabilityCalculator memo = new MemoizingProbabilityCalculator(new HistogramProbabilityCalculator(), 4);
+        Deck deck = new Deck(3L);
+        Deck other = new Deck(4L);
+        List<Card> hand = new ArrayList<>();
+
+        for (int i = 0; i < 300; i++) {
+            for (Deck d : List.of(deck, other, deck)) {
+                assertEquals(reference.calculateSuccessProbability(hand, d.viewDrawPile()),
+                        memo.calculateSuccessProbability(hand, d), 1e-12);
+            }
+            Card card = deck.draw();
+            if (hand.size() == 5) {
+                deck.discardAll(hand);
+                hand.clear();
+            }
+            hand.add(card);
+        }
+        assertTrue(memo.hits() > 0);
+    }
+
+    // Tests if one shared instance gives the same game results as the plain calculator
+    @Test
+    void sharedInEngine_keepsGameResults() {
+        MemoizingProbabilityCalculator memo = new MemoizingProbabilityCalculator(new HistogramProbabilityCalculator());
+
+        assertEquals(playGame(EngineOptions.defaults()), playGame(EngineOptions.defaults().withProbabilityCalculator(memo)));
+        assertTrue(memo.hits() + memo.misses() > 0);
+    }
+
+    private static String playGame(EngineOptions options) {
+        List<Player> players = List.of(
+                new SimpleBotPlayer("A", 15, false),
+                new SimpleBotPlayer("B", 20, false),
+                new SimpleBotPlayer("C", 25, false));
+        GameEngine engine = new GameEngine(players, new Deck(9L), 200, NoOpEventListener.INSTANCE, options);
+        Optional<Player> winner = Optional.empty();
+        int rounds = 0;
+        while (winner.isEmpty()) {
+            winner = engine.playRound();
+            rounds++;
+        }
+        return winner.get().getName() + " after " + rounds;
+    }
+}
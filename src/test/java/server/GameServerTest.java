@@ -0,0 +1,131 @@
+package server;
+
+import com.flavia.domain.enums.PlayerAction;
+import com.flavia.domain.model.TurnInfo;
+import com.flavia.engine.DecisionDeadline;
+import com.flavia.engine.EngineOptions;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import com.flavia.server.GameServer;
+import com.flavia.server.InProcessClient;
+import com.flavia.server.PlayerRequest;
+import com.flavia.server.QueuePlayer;
+import com.flavia.server.ServerStats;
+import com.flavia.server.TableResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServerTest {
+
+    // Tests if many tables with queue-backed players all finish, and stats add up
+    @Test
+    void manyTables_withInProcessClients_allFinish() {
+        int tableCount = 500;
+        List<CompletableFuture<TableResult>> results = new ArrayList<>();
+        ServerStats stats;
+        try (GameServer server = new GameServer();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < tableCount; t++) {
+                List<Player> seats = new ArrayList<>();
+                for (int s = 0; s < 3; s++) {
+                    QueuePlayer seat = new QueuePlayer("P" + s);
+                    clients.execute(new InProcessClient(seat, new SimpleBotPlayer("P" + s, 15, false)));
+                    seats.add(seat);
+                }
+                results.add(server.openTable(seats, t));
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+            stats = server.stats();
+        }
+
+        long turns = results.stream().mapToLong(r -> r.join().turns()).sum();
+        assertTrue(results.stream().allMatch(r -> r.join().finished()));
+        assertEquals(tableCount, stats.tablesOpened());
+        assertEquals(0, stats.activeTables());
+        assertEquals(turns, stats.turns());
+        assertTrue(stats.decisionToEvent().count() > 0);
+        assertTrue(stats.turnsPerSecond() > 0);
+    }
+
+    // Tests if a queue-backed table plays the same game as the same bots seated directly
+    @Test
+    void queuePlayers_playSameGameAsDirectBots() throws Exception {
+        TableResult direct;
+        TableResult queued;
+        try (GameServer server = new GameServer();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            direct = server.openTable(List.of(
+                    new SimpleBotPlayer("A", 10, false),
+                    new SimpleBotPlayer("B", 15, false),
+                    new SimpleBotPlayer("C", 20, false)), 5L).get(10, TimeUnit.SECONDS);
+
+            List<Player> seats = new ArrayList<>();
+            int[] thresholds = {10, 15, 20};
+            for (int s = 0; s < 3; s++) {
+                QueuePlayer seat = new QueuePlayer(String.valueOf((char) ('A' + s)));
+                clients.execute(new InProcessClient(seat, new SimpleBotPlayer(seat.getName(), thresholds[s], false)));
+                seats.add(seat);
+            }
+            queued = server.openTable(seats, 5L).get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(direct.winnerName(), queued.winnerName());
+        assertEquals(direct.rounds(), queued.rounds());
+        assertEquals(direct.turns(), queued.turns());
+    }
+
+    // Tests if a silent client is skipped by the deadline, and its late answer is not reused
+    @Test
+    void silentClient_timesOut_andLateAnswerIsDropped() throws Exception {
+        DecisionDeadline deadline = new DecisionDeadline(Duration.ofMillis(20));
+        QueuePlayer silent = new QueuePlayer("Silent");
+        List<Player> players = List.of(silent, new SimpleBotPlayer("B", 15, false), new SimpleBotPlayer("C", 15, false));
+
+        try (GameServer server = new GameServer(EngineOptions.defaults().withDecisionDeadline(deadline), 200, 5)) {
+            CompletableFuture<TableResult> table = server.openTable(players, 3L);
+
+            // Answer the first request too late: HIT must not be applied to a later decision
+            PlayerRequest first = silent.nextRequest();
+            assertInstanceOf(PlayerRequest.Decide.class, first);
+            Thread.sleep(50);
+            silent.answer((PlayerRequest.Decide) first, PlayerAction.HIT);
+
+            // Stop answering; every decision times out to STAY
+            TableResult result = table.get(10, TimeUnit.SECONDS);
+            assertEquals(5, result.rounds());
+        }
+
+        DecisionDeadline.DecisionStats stats = deadline.stats().get("Silent");
+        assertEquals(stats.decisions(), stats.timeouts());
+        PlayerRequest last = null;
+        while (true) {
+            PlayerRequest next = silent.pollRequest(0, TimeUnit.MILLISECONDS);
+            if (next == null) break;
+            last = next;
+        }
+        assertInstanceOf(PlayerRequest.Closed.class, last);
+    }
+
+    // Tests if the client receives an immutable TurnInfo snapshot
+    @Test
+    void decideRequest_carriesSnapshot() throws Exception {
+        QueuePlayer seat = new QueuePlayer("Q");
+        TurnInfo info = new TurnInfo(new ArrayList<>(), 0, 1.0, 10, new ArrayList<>());
+
+        CompletableFuture<PlayerAction> decision = CompletableFuture.supplyAsync(() -> seat.decide(info));
+        PlayerRequest.Decide request = (PlayerRequest.Decide) seat.nextRequest();
+        assertThrows(UnsupportedOperationException.class, () -> request.info().securedPlayerNames().add("x"));
+        seat.answer(request, PlayerAction.HIT);
+
+        assertEquals(PlayerAction.HIT, decision.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,81 @@
+package simulation;
+
+import com.flavia.domain.enums.PlayerAction;
+import com.flavia.domain.model.Deck;
+import com.flavia.domain.model.TurnInfo;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import com.flavia.simulation.GameSimulator;
+import com.flavia.simulation.PlayerResult;
+import com.flavia.simulation.SimulationResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSimulatorTest {
+
+    // Tests if every finished game has exactly one winner and stats are consistent
+    @Test
+    void run_countsOneWinnerPerGame_andTracksRoundsAndBusts() {
+        GameSimulator simulator = new GameSimulator(List.of(
+                new SimpleBotPlayer("A", 10, false),
+                new SimpleBotPlayer("B", 15, false),
+                new SimpleBotPlayer("C", 25, false)
+        ));
+
+        SimulationResult result = simulator.run(200);
+
+        long wins = result.players().stream().mapToLong(PlayerResult::wins).sum();
+        assertEquals(200, result.games());
+        assertEquals(200, wins + result.unfinishedGames());
+        assertTrue(result.averageRounds() >= 1.0);
+        for (PlayerResult p : result.players()) {
+            assertEquals(result.totalRounds(), p.roundsPlayed());
+            assertTrue(p.bustRate() >= 0.0 && p.bustRate() <= 1.0);
+        }
+        // Aggressive threshold busts more often than a careful one
+        assertTrue(result.players().get(2).bustRate() > result.players().get(0).bustRate());
+    }
+
+    // Tests if a lineup that never scores stops at the round limit instead of looping forever
+    @Test
+    void run_stopsAtRoundLimit_whenNobodyScores() {
+        Player stay1 = new StayPlayer("S1");
+        Player stay2 = new StayPlayer("S2");
+        Player stay3 = new StayPlayer("S3");
+
+        GameSimulator simulator = new GameSimulator(List.of(stay1, stay2, stay3), Deck::new, 200, 5, 1L);
+
+        SimulationResult result = simulator.run(3);
+
+        assertEquals(3, result.unfinishedGames());
+        assertEquals(15, result.totalRounds());
+    }
+
+    // Tests if the simulation does not write anything to stdout
+    @Test
+    void run_producesNoConsoleOutput() {
+        PrintStream original = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured));
+        try {
+            new GameSimulator(List.of(
+                    new SimpleBotPlayer("A", 15, false),
+                    new SimpleBotPlayer("B", 15, false),
+                    new SimpleBotPlayer("C", 15, false)
+            )).run(10);
+        } finally {
+            System.setOut(original);
+        }
+        assertEquals(0, captured.size());
+    }
+
+    private record StayPlayer(String name) implements Player {
+        @Override public PlayerAction decide(TurnInfo turnInfo) { return PlayerAction.STAY; }
+        @Override public String getName() { return name; }
+    }
+}
@@ -0,0 +1,60 @@
+package simulation;
+
+import com.flavia.player.SimpleBotPlayer;
+import com.flavia.simulation.CandidateResult;
+import com.flavia.simulation.StrategyTuner;
+import com.flavia.simulation.TuningResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyTunerTest {
+
+    // Tests if the tuner ranks a sensible threshold above one that never hits and one that always busts
+    @Test
+    void tune_ranksReasonableThresholdFirst() {
+        TuningResult result = tuner(7L).tune(new int[] {0, 18, 80}, 200, 4);
+
+        assertEquals(18, result.best().parameter());
+        assertTrue(result.best().survived());
+        assertEquals(3, result.ranking().size());
+        assertEquals(1, result.ranking().stream().filter(CandidateResult::survived).count());
+    }
+
+    // Tests if early eliminated candidates get fewer games than the survivor and all games are counted
+    @Test
+    void tune_spendsMoreGamesOnSurvivors() {
+        int[] grid = {0, 16, 18, 20, 22};
+        TuningResult result = tuner(11L).tune(grid, 100, 4);
+
+        CandidateResult best = result.best();
+        for (CandidateResult c : result.ranking()) {
+            assertTrue(c.games() <= best.games(), "parameter " + c.parameter());
+            if (c.eliminatedInRound() == 0) {
+                assertTrue(c.games() < best.games(), "parameter " + c.parameter());
+            }
+        }
+        // Cheaper than giving every candidate the survivor's games
+        assertTrue(result.totalGames() < grid.length * best.games());
+        assertEquals(result.totalGames(), result.ranking().stream().mapToLong(CandidateResult::games).sum());
+        assertTrue(result.report().contains("Win rate"));
+    }
+
+    // Tests if the standard error follows the binomial formula
+    @Test
+    void candidateResult_standardError() {
+        CandidateResult c = new CandidateResult(15, 100, 25, -1);
+
+        assertEquals(0.25, c.winRate(), 1e-12);
+        assertEquals(Math.sqrt(0.25 * 0.75 / 100), c.standardError(), 1e-12);
+    }
+
+    private static StrategyTuner tuner(long seed) {
+        return new StrategyTuner(
+                threshold -> new SimpleBotPlayer("Candidate", threshold, false),
+                () -> List.of(new SimpleBotPlayer("A", 15, false), new SimpleBotPlayer("B", 15, false)),
+                seed);
+    }
+}
@@ -0,0 +1,130 @@
+package simulation;
+
+import com.flavia.domain.enums.CardType;
+import com.flavia.domain.model.Card;
+import com.flavia.domain.model.Deck;
+import com.flavia.engine.GameEventListener;
+import com.flavia.engine.TurnEvent;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import com.flavia.simulation.CounterSnapshot;
+import com.flavia.simulation.GameSimulator;
+import com.flavia.simulation.PlayerResult;
+import com.flavia.simulation.SimulationResult;
+import com.flavia.simulation.StatisticsSnapshot;
+import com.flavia.simulation.StreamingStatistics;
+import com.flavia.simulation.StreamingStatistics.Counter;
+import com.flavia.simulation.TournamentRunner;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingStatisticsTest {
+
+    // Tests if the streamed counters agree with the per-seat results of a parallel run
+    @Test
+    void tournament_streamedCountersMatchSimulationResult() {
+        StreamingStatistics statistics = new StreamingStatistics();
+        SimulationResult result;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            result = new TournamentRunner(() -> List.of(
+                    new SimpleBotPlayer("A", 10, false),
+                    new SimpleBotPlayer("B", 15, false),
+                    new SimpleBotPlayer("C", 20, false)
+            ), Deck::new, 200, GameSimulator.DEFAULT_MAX_ROUNDS, 11L, pool).run(2_000, statistics);
+        }
+
+        StatisticsSnapshot snapshot = statistics.snapshot();
+        assertEquals(result.games() - result.unfinishedGames(), snapshot.games());
+        long rounds = 0;
+        for (PlayerResult player : result.players()) {
+            CounterSnapshot streamed = snapshot.players().get(player.name());
+            assertEquals(player.wins(), streamed.get(Counter.WINS));
+            assertEquals(player.roundsPlayed(), streamed.get(Counter.ROUNDS));
+            assertEquals(player.busts(), streamed.get(Counter.BUSTS));
+            long scored = Arrays.stream(streamed.roundScoreHistogram()).sum();
+            assertTrue(scored > 0 && scored <= player.roundsPlayed() - player.busts());
+            assertEquals(player.busts(), Arrays.stream(streamed.bustHandSizeHistogram()).sum());
+            rounds += player.roundsPlayed();
+        }
+
+        // All three bots share one strategy
+        assertEquals(1, snapshot.strategies().size());
+        assertEquals(rounds, snapshot.strategies().get("SimpleBotPlayer").get(Counter.ROUNDS));
+    }
+
+    // Tests if freezes, Flip Three busts and Second Chance saves are credited to the right players
+    @Test
+    void recorder_creditsActionOutcomes() {
+        Player a = new SimpleBotPlayer("A", 15, false);
+        Player b = new SimpleBotPlayer("B", 15, false);
+        StreamingStatistics statistics = new StreamingStatistics(p -> "bots");
+        GameEventListener recorder = statistics.recorder(List.of(a, b));
+
+        Card five = new Card(5, CardType.NUMBER);
+        Card freeze = new Card(0, CardType.FREEZE);
+        Card flipThree = new Card(0, CardType.FLIP_THREE);
+        recorder.onRoundStart();
+        recorder.onTurn(a, List.of(
+                new TurnEvent.CardDrawn(a, freeze),
+                new TurnEvent.ActionCardPlayed(a, freeze, b),
+                new TurnEvent.PlayerFrozen(b)));
+        recorder.onTurn(a, List.of(
+                new TurnEvent.CardDrawn(a, flipThree),
+                new TurnEvent.ActionCardPlayed(a, flipThree, b),
+                new TurnEvent.CardDrawn(b, five),
+                new TurnEvent.CardDrawn(b, five),
+                new TurnEvent.SecondChanceConsumed(b, five),
+                new TurnEvent.CardDrawn(b, five),
+                new TurnEvent.PlayerBusted(b, five)));
+        recorder.onPlayerScored(a, 7, 7, false);
+        recorder.onPlayerScored(b, 0, 0, true);
+        recorder.onGameWon(a);
+
+        StatisticsSnapshot snapshot = statistics.snapshot();
+        CounterSnapshot sa = snapshot.players().get("A");
+        CounterSnapshot sb = snapshot.players().get("B");
+        assertEquals(2, snapshot.turns());
+        assertEquals(1, sa.get(Counter.FREEZES_PLAYED));
+        assertEquals(1, sb.get(Counter.TIMES_FROZEN));
+        assertEquals(1, sa.get(Counter.FLIP_THREES_PLAYED));
+        assertEquals(1, sb.get(Counter.FLIP_THREES_RECEIVED));
+        assertEquals(1, sb.get(Counter.FLIP_THREE_BUSTS));
+        assertEquals(1, sb.get(Counter.SECOND_CHANCE_SAVES));
+        assertEquals(3, sb.get(Counter.CARDS_DRAWN));
+        // One five in hand when the third five busted
+        assertEquals(1, sb.bustHandSizeHistogram()[1]);
+        assertEquals(1.0, sb.flipThreeBustRate());
+        assertEquals(7.0, sa.averageRoundScore());
+        assertEquals(1, sa.roundScoreHistogram()[0]);
+        assertEquals(5, snapshot.strategies().get("bots").get(Counter.CARDS_DRAWN));
+    }
+
+    // Tests if snapshots can be taken while games are running and never go backwards
+    @Test
+    void snapshot_whileRunning_isMonotonic() {
+        StreamingStatistics statistics = new StreamingStatistics();
+        try (ForkJoinPool pool = new ForkJoinPool(2)) {
+            TournamentRunner runner = new TournamentRunner(() -> List.of(
+                    new SimpleBotPlayer("A", 15, false),
+                    new SimpleBotPlayer("B", 15, false),
+                    new SimpleBotPlayer("C", 15, false)
+            ), Deck::new, 200, GameSimulator.DEFAULT_MAX_ROUNDS, 3L, pool);
+            CompletableFuture<SimulationResult> run = CompletableFuture.supplyAsync(() -> runner.run(5_000, statistics));
+
+            long lastTurns = 0;
+            while (!run.isDone()) {
+                long turns = statistics.snapshot().turns();
+                assertTrue(turns >= lastTurns);
+                lastTurns = turns;
+            }
+            assertEquals(5_000, run.join().games());
+        }
+        assertTrue(statistics.snapshot().turns() > 0);
+    }
+}
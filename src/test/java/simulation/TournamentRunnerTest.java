@@ -0,0 +1,100 @@
+package simulation;
+
+import com.flavia.domain.model.Deck;
+import com.flavia.player.Player;
+import com.flavia.player.SimpleBotPlayer;
+import com.flavia.simulation.GameSimulator;
+import com.flavia.simulation.PlayerFactory;
+import com.flavia.simulation.PlayerResult;
+import com.flavia.simulation.SimulationResult;
+import com.flavia.simulation.TournamentRunner;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentRunnerTest {
+
+    // Tests if all games are played and merged results add up across parallel tasks
+    @Test
+    void run_playsAllGames_andMergesStatistics() {
+        TournamentRunner runner = new TournamentRunner(() -> List.of(
+                new SimpleBotPlayer("A", 10, false),
+                new SimpleBotPlayer("B", 15, false),
+                new SimpleBotPlayer("C", 20, false)
+        ));
+
+        SimulationResult result = runner.run(1_000);
+
+        assertEquals(1_000, result.games());
+        long wins = result.players().stream().mapToLong(PlayerResult::wins).sum();
+        assertEquals(1_000, wins + result.unfinishedGames());
+        assertEquals(List.of("A", "B", "C"), result.players().stream().map(PlayerResult::name).toList());
+    }
+
+    // Tests if the factory is called per game, so player instances are never shared between games
+    @Test
+    void run_createsFreshPlayersForEveryGame() {
+        Set<Player> seen = ConcurrentHashMap.newKeySet();
+        AtomicInteger lineups = new AtomicInteger();
+
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            TournamentRunner runner = new TournamentRunner(() -> {
+                lineups.incrementAndGet();
+                List<Player> players = List.of(
+                        new SimpleBotPlayer("A", 15, false),
+                        new SimpleBotPlayer("B", 15, false),
+                        new SimpleBotPlayer("C", 15, false)
+                );
+                seen.addAll(players);
+                return players;
+            }, Deck::new, 200, GameSimulator.DEFAULT_MAX_ROUNDS, 7L, pool);
+
+            runner.run(600);
+        }
+
+        // One lineup to read the seat names plus one per game
+        assertEquals(601, lineups.get());
+        assertEquals(601 * 3, seen.size());
+    }
+
+    // Tests if a seeded tournament gives the same result as a sequential run, regardless of scheduling
+    @Test
+    void run_withSameSeed_matchesSequentialSimulation() {
+        PlayerFactory lineup = () -> List.of(
+                new SimpleBotPlayer("A", 10, false),
+                new SimpleBotPlayer("B", 15, false),
+                new SimpleBotPlayer("C", 20, false)
+        );
+
+        SimulationResult parallel;
+        try (ForkJoinPool pool = new ForkJoinPool(3)) {
+            parallel = new TournamentRunner(lineup, Deck::new, 200, GameSimulator.DEFAULT_MAX_ROUNDS, 99L, pool)
+                    .run(1_000);
+        }
+        SimulationResult sequential = new GameSimulator(lineup.createPlayers(), 99L).run(1_000);
+
+        assertEquals(sequential.players(), parallel.players());
+        assertEquals(sequential.totalRounds(), parallel.totalRounds());
+    }
+
+    // Tests if a factory returning a different number of seats is rejected
+    @Test
+    void run_rejectsFactoryWithChangingSeatCount() {
+        AtomicInteger calls = new AtomicInteger();
+        TournamentRunner runner = new TournamentRunner(() -> {
+            int n = calls.getAndIncrement() == 0 ? 3 : 4;
+            return IntStream.range(0, n)
+                    .<Player>mapToObj(i -> new SimpleBotPlayer("P" + i, 15, false))
+                    .toList();
+        });
+
+        assertThrows(IllegalStateException.class, () -> runner.run(10));
+    }
+}